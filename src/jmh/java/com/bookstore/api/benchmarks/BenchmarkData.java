@@ -0,0 +1,38 @@
+package com.bookstore.api.benchmarks;
+
+import com.bookstore.api.model.Book;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class BenchmarkData {
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim"
+    };
+
+    private BenchmarkData() {
+    }
+
+    // Sizes roughly match fakerestapi payloads: short titles, ~60 char descriptions, ~300 char excerpts.
+    static List<Book> books(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Book> books = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            books.add(new Book(id, "Book " + id + " " + text(random, 3), 100 + random.nextInt(900),
+                    text(random, 10), text(random, 50), "2025-07-30T00:00:00"));
+        }
+        return books;
+    }
+
+    private static String text(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
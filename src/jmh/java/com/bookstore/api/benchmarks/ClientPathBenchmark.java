@@ -0,0 +1,82 @@
+package com.bookstore.api.benchmarks;
+
+import com.bookstore.api.base.ApiBase;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.server.LocalBookStoreServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Spec building and full requests against the embedded local server, with and without Allure capture.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientPathBenchmark extends ApiBase {
+
+    private LocalBookStoreServer server;
+    private ApiConfiguration config;
+    private String bookPath;
+    private String testUuid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        server = new LocalBookStoreServer(Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint(), 0);
+        server.start();
+        config = new ApiConfiguration(server.getBaseUrl(), Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint());
+        bookPath = config.getBooksEndpoint() + "/1";
+        // AllureRestAssured only does its full work while a test case is running on this thread.
+        testUuid = UUID.randomUUID().toString();
+        Allure.getLifecycle().scheduleTestCase(new TestResult().setUuid(testUuid).setName("ClientPathBenchmark"));
+        Allure.getLifecycle().startTestCase(testUuid);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Allure.getLifecycle().stopTestCase(testUuid);
+        server.stop();
+    }
+
+    @Benchmark
+    public RequestSpecification buildSpecPerCall() {
+        return RestAssured.given()
+                .filter(new AllureRestAssured())
+                .baseUri(config.getBaseUrl())
+                .contentType("application/json")
+                .accept("application/json");
+    }
+
+    @Benchmark
+    public RequestSpecification sharedBaseSpec() {
+        return setup(config);
+    }
+
+    @Benchmark
+    public int getBookWithFilterChain() {
+        return setup(config).get(bookPath).getStatusCode();
+    }
+
+    @Benchmark
+    public int getBookWithoutFilters() {
+        return RestAssured.given().spec(baseSpec(config)).get(bookPath).getStatusCode();
+    }
+}
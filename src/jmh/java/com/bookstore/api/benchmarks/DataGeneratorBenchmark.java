@@ -0,0 +1,53 @@
+package com.bookstore.api.benchmarks;
+
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.utils.TestDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Per-thread state: every benchmark thread owns its generator, as the tests do.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DataGeneratorBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final TestDataGenerator generator = TestDataGenerator.forCurrentThread();
+    private int id;
+
+    @Benchmark
+    public Book book() {
+        return generator.nextBook(++id);
+    }
+
+    @Benchmark
+    public Author author() {
+        return generator.nextAuthor(++id, id);
+    }
+
+    @Benchmark
+    public byte[] bookJson() {
+        return generator.nextBookJson(++id);
+    }
+
+    @Benchmark
+    public byte[] bookViaJackson() throws IOException {
+        return mapper.writeValueAsBytes(generator.nextBook(++id));
+    }
+}
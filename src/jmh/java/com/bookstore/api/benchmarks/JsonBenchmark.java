@@ -0,0 +1,79 @@
+package com.bookstore.api.benchmarks;
+
+import com.bookstore.api.model.Book;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int catalogSize;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private List<Book> books;
+    private Book book;
+    private byte[] catalogJson;
+    private byte[] bookJson;
+
+    @Setup
+    public void setup() throws IOException {
+        books = BenchmarkData.books(catalogSize);
+        book = books.get(0);
+        catalogJson = mapper.writeValueAsBytes(books);
+        bookJson = mapper.writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws IOException {
+        return mapper.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public Book[] deserializeCatalog() throws IOException {
+        return mapper.readValue(catalogJson, Book[].class);
+    }
+
+    @Benchmark
+    public Book[] deserializeCatalogViaResponse() {
+        return response(catalogJson).as(Book[].class);
+    }
+
+    @Benchmark
+    public byte[] serializeBook() throws IOException {
+        return mapper.writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public Book deserializeBookViaResponse() {
+        return response(bookJson).as(Book.class);
+    }
+
+    private static Response response(byte[] body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=utf-8")
+                .setBody(body)
+                .build();
+    }
+}
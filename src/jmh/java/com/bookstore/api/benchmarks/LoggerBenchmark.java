@@ -0,0 +1,54 @@
+package com.bookstore.api.benchmarks;
+
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerBenchmark {
+
+    private final Book book = BenchmarkData.books(1).get(0);
+    private final Author author = new Author(1, 1, "First Name 1", "Last Name 1");
+    private PrintStream originalOut;
+
+    @Setup
+    public void setup() {
+        // Measure formatting, not the terminal.
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void logBook() {
+        ApiLogger.logBook(book);
+    }
+
+    @Benchmark
+    public void logAuthor() {
+        ApiLogger.logAuthor(author);
+    }
+}
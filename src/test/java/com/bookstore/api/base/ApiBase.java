@@ -1,16 +1,59 @@
 package com.bookstore.api.base;
 
-import io.qameta.allure.restassured.AllureRestAssured;
+import com.bookstore.api.cassette.CassetteFilter;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.contract.ContractFilter;
+import com.bookstore.api.metrics.TimingFilter;
+import com.bookstore.api.reporting.CaptureFilter;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
 import io.restassured.specification.RequestSpecification;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ApiBase {
-    protected RequestSpecification setup(String baseUri) {
+
+    private static final Map<ApiConfiguration, RequestSpecification> SPECS = new ConcurrentHashMap<>();
+    private static final Map<ApiConfiguration, FilterChain> CHAINS = new ConcurrentHashMap<>();
+    // Capture, contracts and release-by-buffering would read the whole body before the caller sees it.
+    private static final FilterChain STREAMING_CHAIN = FilterChain.of(new TimingFilter(), new CassetteFilter());
+
+    protected RequestSpecification setup(ApiConfiguration config, Filter... extraFilters) {
         return RestAssured
                 .given()
-                .filter(new AllureRestAssured())
-                .baseUri(baseUri)
-                .contentType("application/json")
-                .accept("application/json");
+                .spec(baseSpec(config))
+                .filters(filterChain(config).with(extraFilters).filters());
+    }
+
+    // For callers that read the body as a stream and close it themselves, which releases the connection.
+    protected RequestSpecification streamingSetup(ApiConfiguration config) {
+        return RestAssured
+                .given()
+                .spec(baseSpec(config))
+                .filters(STREAMING_CHAIN.filters());
+    }
+
+    protected static RequestSpecification baseSpec(ApiConfiguration config) {
+        return SPECS.computeIfAbsent(config, ApiBase::buildSpec);
+    }
+
+    protected static FilterChain filterChain(ApiConfiguration config) {
+        return CHAINS.computeIfAbsent(config, ApiBase::buildFilterChain);
+    }
+
+    private static RequestSpecification buildSpec(ApiConfiguration config) {
+        return new RequestSpecBuilder()
+                .setBaseUri(config.getBaseUrl())
+                .setContentType("application/json")
+                .setAccept("application/json")
+                .setConfig(RestAssuredConfig.config().httpClient(HttpConnectionPool.shared().httpClientConfig()))
+                .build();
+    }
+
+    private static FilterChain buildFilterChain(ApiConfiguration config) {
+        return FilterChain.of(new ContractFilter(config), new CaptureFilter(), new TimingFilter(),
+                new ConnectionReleaseFilter(), new CassetteFilter());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.bookstore.api.base;
+
+import com.bookstore.api.config.Configuration;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+
+// With a reused HttpClient, RestAssured hands back the body as a lazy stream and the pooled connection is only
+// released once that stream is read to the end or closed. Small bodies are buffered right after the exchange, so
+// callers that look at the status code alone do not keep their connection leased. Larger or chunked bodies stay
+// streaming: reading them releases the connection, and one that is dropped unread is closed once the response is
+// garbage collected. Streamed reads (BookStoreStreams) use a chain without this filter and close the stream
+// themselves.
+public class ConnectionReleaseFilter implements OrderedFilter {
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private final long maxBufferedBytes = Configuration.getHttpReleaseBufferBytes();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        long length = contentLength(response);
+        if (length >= 0 && length <= maxBufferedBytes) {
+            response.asByteArray();
+        } else {
+            InputStream body = response.asInputStream();
+            if (body != null) {
+                cleaner.register(response, () -> closeQuietly(body));
+            }
+        }
+        return response;
+    }
+
+    // Between timing and the cassette filter: body transfer counts as request latency, replayed bodies are
+    // already in memory.
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private static long contentLength(Response response) {
+        String header = response.getHeader("Content-Length");
+        try {
+            return header == null ? -1 : Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            // Closing reads what is left of the body, so the connection can go back to the pool.
+            body.close();
+        } catch (IOException e) {
+            // The connection is discarded instead.
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bookstore.api.base;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.OrderedFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class FilterChain {
+
+    private static final FilterChain EMPTY = new FilterChain(List.of());
+
+    private final List<Filter> filters;
+
+    private FilterChain(List<Filter> filters) {
+        this.filters = filters;
+    }
+
+    public static FilterChain of(Filter... filters) {
+        return EMPTY.with(filters);
+    }
+
+    public FilterChain with(Filter... extra) {
+        if (extra.length == 0) {
+            return this;
+        }
+        // One filter per class: a later registration replaces the earlier one.
+        Map<Class<?>, Filter> byType = new LinkedHashMap<>();
+        filters.forEach(filter -> byType.put(filter.getClass(), filter));
+        Arrays.stream(extra).forEach(filter -> byType.put(filter.getClass(), filter));
+        List<Filter> ordered = new ArrayList<>(byType.values());
+        ordered.sort(Comparator.comparingInt(FilterChain::orderOf));
+        return new FilterChain(List.copyOf(ordered));
+    }
+
+    public List<Filter> filters() {
+        return filters;
+    }
+
+    private static int orderOf(Filter filter) {
+        return filter instanceof OrderedFilter ordered ? ordered.getOrder() : OrderedFilter.DEFAULT_PRECEDENCE;
+    }
+}
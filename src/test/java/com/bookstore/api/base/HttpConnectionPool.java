@@ -0,0 +1,179 @@
+package com.bookstore.api.base;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.metrics.LatencyHistogram;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import java.net.URI;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// RestAssured drives the HttpClient 4 API through AbstractHttpClient, hence DefaultHttpClient and the
+// PoolingClientConnectionManager rather than the builder-based client. That API is deprecated in HttpClient 4.3+,
+// but RestAssured 5 offers no other way in, so the deprecation warnings are suppressed for the whole class.
+// Connections return to the pool once the response body is consumed; ConnectionReleaseFilter makes sure it is,
+// and empty bodies are released as soon as the response arrives.
+@SuppressWarnings("deprecation")
+public class HttpConnectionPool {
+    private static HttpConnectionPool shared;
+
+    private final TimedConnectionManager connectionManager;
+    private final DefaultHttpClient client;
+    private final ScheduledExecutorService evictor;
+    private final LatencyHistogram leaseWait = new LatencyHistogram();
+    private final LongAdder leaseTimeouts = new LongAdder();
+
+    public HttpConnectionPool(int maxTotal, int maxPerRoute, String routeLimits, int connectTimeoutMillis,
+                              int socketTimeoutMillis, long leaseTimeoutMillis, long keepAliveMillis,
+                              long idleEvictMillis) {
+        connectionManager = new TimedConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        applyRouteLimits(routeLimits);
+
+        HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setConnectionTimeout(params, connectTimeoutMillis);
+        HttpConnectionParams.setSoTimeout(params, socketTimeoutMillis);
+        HttpConnectionParams.setSoKeepalive(params, true);
+        HttpConnectionParams.setTcpNoDelay(params, true);
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, leaseTimeoutMillis);
+
+        client = new DefaultHttpClient(connectionManager, params);
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        });
+        // RestAssured never opens an empty body, and an unread entity keeps its connection leased. Swapping it for
+        // a non-streaming one lets the client release the connection straight away.
+        client.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming() && entity.getContentLength() == 0) {
+                EntityUtils.consume(entity);
+                ByteArrayEntity empty = new ByteArrayEntity(new byte[0]);
+                empty.setContentType(entity.getContentType());
+                response.setEntity(empty);
+            }
+        });
+
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictMillis, TimeUnit.MILLISECONDS);
+        }, idleEvictMillis, idleEvictMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized HttpConnectionPool shared() {
+        if (shared == null) {
+            shared = new HttpConnectionPool(
+                    Configuration.getHttpMaxTotal(),
+                    Configuration.getHttpMaxPerRoute(),
+                    Configuration.getHttpRouteLimits(),
+                    Configuration.getHttpConnectTimeoutMillis(),
+                    Configuration.getHttpSocketTimeoutMillis(),
+                    Configuration.getHttpLeaseTimeoutMillis(),
+                    Configuration.getHttpKeepAliveMillis(),
+                    Configuration.getHttpIdleEvictMillis());
+        }
+        return shared;
+    }
+
+    public HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> client);
+    }
+
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    public PoolStats getRouteStats(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : secure ? 443 : 80;
+        return connectionManager.getStats(new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure));
+    }
+
+    public String summary() {
+        PoolStats stats = getTotalStats();
+        return String.format("leased=%d pending=%d available=%d max=%d | leases=%d wait p50=%.2fms p99=%.2fms max=%.2fms timeouts=%d",
+                stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax(), leaseWait.getCount(),
+                leaseWait.percentileMillis(50), leaseWait.percentileMillis(99), leaseWait.getMaxMicros() / 1000.0,
+                leaseTimeouts.sum());
+    }
+
+    public void shutdown() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    // Format: host:port=limit,host:port=limit (https for port 443, http otherwise)
+    private void applyRouteLimits(String routeLimits) {
+        if (routeLimits == null || routeLimits.isBlank()) {
+            return;
+        }
+        for (String entry : routeLimits.split(",")) {
+            String[] parts = entry.trim().split("=");
+            String[] hostPort = parts[0].trim().split(":");
+            int port = Integer.parseInt(hostPort[1]);
+            HttpHost host = new HttpHost(hostPort[0], port, port == 443 ? "https" : "http");
+            // HTTPS routes are planned as secure, and HttpRoute.equals compares that flag.
+            connectionManager.setMaxPerRoute(new HttpRoute(host, null, "https".equals(host.getSchemeName())),
+                    Integer.parseInt(parts[1].trim()));
+        }
+    }
+
+    private final class TimedConnectionManager extends PoolingClientConnectionManager {
+
+        TimedConnectionManager() {
+            super(SchemeRegistryFactory.createDefault());
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return request.getConnection(timeout, unit);
+                    } catch (ConnectionPoolTimeoutException e) {
+                        leaseTimeouts.increment();
+                        throw e;
+                    } finally {
+                        leaseWait.recordNanos(System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookstore.api.cassette;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Cassettes a test class or method records into / replays from. Recording goes to the first name; replay
+// searches method-level cassettes before class-level ones. Without the annotation the class's simple name is used.
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Cassette {
+    String[] value();
+}
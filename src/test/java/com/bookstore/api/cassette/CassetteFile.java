@@ -0,0 +1,166 @@
+package com.bookstore.api.cassette;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+
+// Layout: header (magic, version, entry count, index capacity, index offset), then the entries
+// (key, status, content type, headers, body), then an open-addressing index of (key hash, entry offset) slots.
+// Replay maps the file read-only and resolves a request with one or two probes and no parsing.
+public final class CassetteFile {
+    private static final int MAGIC = 0x43535445;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 24;
+    private static final int SLOT_BYTES = 16;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long indexOffset;
+    private final int count;
+
+    public record Entry(String key, int status, String contentType, List<String> headers, byte[] body) {
+    }
+
+    private CassetteFile(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a cassette file (or unsupported version): " + path);
+        }
+        this.count = buffer.getInt(8);
+        this.capacity = buffer.getInt(12);
+        this.indexOffset = buffer.getLong(16);
+    }
+
+    public static CassetteFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new CassetteFile(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Entry find(String key) {
+        long hash = hash(key);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        for (int probe = 0; probe < capacity; probe++) {
+            int slot = (int) ((hash + probe) & (capacity - 1));
+            int slotOffset = (int) (indexOffset + (long) slot * SLOT_BYTES);
+            long entryOffset = buffer.getLong(slotOffset + 8);
+            if (entryOffset == 0) {
+                return null;
+            }
+            if (buffer.getLong(slotOffset) == hash && keyMatches((int) entryOffset, keyBytes)) {
+                return read((int) entryOffset, key);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // Written to a temp file and moved into place, so replaying runs never see a half-written cassette.
+    public static void write(Path path, Collection<Entry> entries) throws IOException {
+        int capacity = Integer.highestOneBit(Math.max(1, entries.size() * 2 - 1)) << 1;
+        long size = HEADER_BYTES;
+        for (Entry entry : entries) {
+            size += entryBytes(entry);
+        }
+        long indexOffset = size;
+        size += (long) capacity * SLOT_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Cassette too large (" + size + " bytes): " + path);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putInt(MAGIC).putInt(VERSION).putInt(entries.size()).putInt(capacity).putLong(indexOffset);
+        for (Entry entry : entries) {
+            long offset = out.position();
+            byte[] key = entry.key().getBytes(StandardCharsets.UTF_8);
+            byte[] contentType = entry.contentType() == null ? new byte[0]
+                    : entry.contentType().getBytes(StandardCharsets.UTF_8);
+            byte[] headers = headerBytes(entry);
+            out.putInt(key.length).put(key).putInt(entry.status())
+                    .putShort((short) contentType.length).put(contentType)
+                    .putInt(headers.length).put(headers)
+                    .putInt(entry.body().length).put(entry.body());
+            long hash = hash(entry.key());
+            for (int probe = 0; ; probe++) {
+                int slotOffset = (int) (indexOffset + ((hash + probe) & (capacity - 1)) * SLOT_BYTES);
+                if (out.getLong(slotOffset + 8) == 0) {
+                    out.putLong(slotOffset, hash).putLong(slotOffset + 8, offset);
+                    break;
+                }
+            }
+        }
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        Files.write(temp, out.array());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean keyMatches(int offset, byte[] key) {
+        if (buffer.getInt(offset) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(offset + 4 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Entry read(int offset, String key) {
+        int position = offset + 4 + buffer.getInt(offset);
+        int status = buffer.getInt(position);
+        int contentTypeLength = buffer.getShort(position + 4);
+        byte[] contentType = new byte[contentTypeLength];
+        buffer.get(position + 6, contentType);
+        position += 6 + contentTypeLength;
+        byte[] headers = new byte[buffer.getInt(position)];
+        buffer.get(position + 4, headers);
+        position += 4 + headers.length;
+        byte[] body = new byte[buffer.getInt(position)];
+        buffer.get(position + 4, body);
+        return new Entry(key, status, contentTypeLength == 0 ? null : new String(contentType, StandardCharsets.UTF_8),
+                headers.length == 0 ? List.of() : List.of(new String(headers, StandardCharsets.UTF_8).split("\n")),
+                body);
+    }
+
+    private static long entryBytes(Entry entry) {
+        int contentType = entry.contentType() == null ? 0 : entry.contentType().getBytes(StandardCharsets.UTF_8).length;
+        return 4L + entry.key().getBytes(StandardCharsets.UTF_8).length + 4 + 2 + contentType
+                + 4 + headerBytes(entry).length + 4 + entry.body().length;
+    }
+
+    // One "Name: value" line per header.
+    private static byte[] headerBytes(Entry entry) {
+        return String.join("\n", entry.headers()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 64-bit FNV-1a over the UTF-8 key.
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,230 @@
+package com.bookstore.api.cassette;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Innermost filter of the ApiBase chain. RECORD passes requests through and keeps the responses for the test's
+// cassette; REPLAY answers from the cassettes without touching the network. Requests are keyed by method, path
+// with query, body digest and how many identical requests the same test made before it.
+public class CassetteFilter implements OrderedFilter {
+    private static final String EXTENSION = ".cassette";
+    private static final InheritableThreadLocal<Scope> scope = new InheritableThreadLocal<>();
+    private static final Map<String, Map<String, CassetteFile.Entry>> recorded = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<CassetteFile>> loaded = new ConcurrentHashMap<>();
+    private static final List<String> unmatched = Collections.synchronizedList(new ArrayList<>());
+    private static final LongAdder replayed = new LongAdder();
+    private static final LongAdder recordedCount = new LongAdder();
+    private static final Set<String> SKIPPED_HEADERS =
+            Set.of("content-type", "connection", "keep-alive", "transfer-encoding");
+
+    public static CassetteMode mode() {
+        return CassetteMode.valueOf(Configuration.getCassetteMode().toUpperCase());
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Scope current = scope.get();
+        if (current == null || current.mode() == CassetteMode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String key = current.key(requestKey(requestSpec));
+        if (current.mode() == CassetteMode.RECORD) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            recorded.computeIfAbsent(current.cassettes().get(0), name -> new ConcurrentHashMap<>())
+                    .putIfAbsent(key, new CassetteFile.Entry(key, response.getStatusCode(), response.getContentType(),
+                            headers(response), response.asByteArray()));
+            recordedCount.increment();
+            return response;
+        }
+        for (String name : current.cassettes()) {
+            Optional<CassetteFile> cassette = loaded.computeIfAbsent(name, CassetteFilter::load);
+            CassetteFile.Entry entry = cassette.map(file -> file.find(key)).orElse(null);
+            if (entry != null) {
+                replayed.increment();
+                return replay(entry);
+            }
+        }
+        String miss = key + " (searched " + current.cassettes() + ")";
+        unmatched.add(miss);
+        throw new AssertionError("No recorded response for " + miss
+                + ". Re-record with -Dapi.cassette.mode=RECORD.");
+    }
+
+    // Innermost: timing and capture see replayed exchanges exactly like live ones.
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    public static void beginTest(Method testMethod) {
+        List<String> cassettes = new ArrayList<>();
+        Cassette onMethod = testMethod.getAnnotation(Cassette.class);
+        Cassette onClass = testMethod.getDeclaringClass().getAnnotation(Cassette.class);
+        if (onMethod != null) {
+            cassettes.addAll(List.of(onMethod.value()));
+        }
+        if (onClass != null) {
+            cassettes.addAll(List.of(onClass.value()));
+        }
+        if (cassettes.isEmpty()) {
+            cassettes.add(testMethod.getDeclaringClass().getSimpleName());
+        }
+        scope.set(new Scope(testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName(),
+                List.copyOf(cassettes), mode(), new ConcurrentHashMap<>()));
+    }
+
+    // Runs body against one cassette in the given mode, whatever the suite mode is; a recording is written as soon
+    // as body returns. Lets a test record and then replay the same traffic in one run.
+    public static <T> T using(String cassette, CassetteMode mode, Supplier<T> body) {
+        Scope previous = scope.get();
+        scope.set(new Scope("using " + cassette, List.of(cassette), mode, new ConcurrentHashMap<>()));
+        try {
+            return body.get();
+        } finally {
+            scope.set(previous);
+            if (mode == CassetteMode.RECORD) {
+                Map<String, CassetteFile.Entry> entries = recorded.remove(cassette);
+                if (entries != null) {
+                    write(cassette, entries);
+                }
+            }
+        }
+    }
+
+    public static void endTest() {
+        scope.remove();
+    }
+
+    // Record mode: writes every cassette that received responses in this run.
+    public static void flush() {
+        recorded.forEach(CassetteFilter::write);
+        recorded.clear();
+    }
+
+    public static List<String> unmatched() {
+        return List.copyOf(unmatched);
+    }
+
+    public static String summary() {
+        return String.format("mode=%s recorded=%d replayed=%d unmatched=%d", mode(), recordedCount.sum(),
+                replayed.sum(), unmatched.size());
+    }
+
+    private static void write(String name, Map<String, CassetteFile.Entry> entries) {
+        Path path = path(name);
+        try {
+            CassetteFile.write(path, new LinkedHashMap<>(entries).values());
+            loaded.remove(name);
+            ApiLogger.log("📼 Recorded " + entries.size() + " exchanges to " + path);
+        } catch (IOException e) {
+            ApiLogger.log("⚠️ Could not write cassette " + path + ": " + e.getMessage());
+        }
+    }
+
+    // Connection-level headers describe the original transfer, not the response; the content type is kept apart.
+    private static List<String> headers(Response response) {
+        List<String> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                headers.add(header.getName() + ": " + header.getValue());
+            }
+        }
+        return headers;
+    }
+
+    private static Response replay(CassetteFile.Entry entry) {
+        ResponseBuilder builder = new ResponseBuilder().setStatusCode(entry.status()).setBody(entry.body());
+        if (entry.contentType() != null) {
+            builder.setContentType(entry.contentType());
+        }
+        List<Header> headers = new ArrayList<>();
+        for (String line : entry.headers()) {
+            int colon = line.indexOf(':');
+            headers.add(new Header(line.substring(0, colon), line.substring(colon + 1).trim()));
+        }
+        if (!headers.isEmpty()) {
+            builder.setHeaders(new Headers(headers));
+        }
+        return builder.build();
+    }
+
+    private static Optional<CassetteFile> load(String name) {
+        Path path = path(name);
+        if (!Files.exists(path)) {
+            ApiLogger.log("⚠️ Cassette not found: " + path);
+            return Optional.empty();
+        }
+        try {
+            CassetteFile file = CassetteFile.open(path);
+            ApiLogger.debug("📼 Loaded cassette " + path + " (" + file.size() + " exchanges)");
+            return Optional.of(file);
+        } catch (IOException e) {
+            ApiLogger.log("⚠️ Could not open cassette " + path + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Path path(String name) {
+        return Path.of(Configuration.getCassetteDir(), name + EXTENSION);
+    }
+
+    // Host-independent, so a cassette recorded against staging replays for any base URL. Query parameters are
+    // sorted: their order comes from Map iteration and changes from one JVM run to the next.
+    private static String requestKey(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        String pathAndQuery = uri.getRawQuery() == null ? uri.getRawPath()
+                : uri.getRawPath() + "?" + Arrays.stream(uri.getRawQuery().split("&")).sorted()
+                        .collect(Collectors.joining("&"));
+        Object body = requestSpec.getBody();
+        return requestSpec.getMethod() + " " + pathAndQuery + (body == null ? "" : " " + digest(Objects.toString(body)));
+    }
+
+    private static String digest(String body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Scope(String test, List<String> cassettes, CassetteMode mode, Map<String, Integer> occurrences) {
+
+        // Tests of a class share a cassette, so the test is part of the key.
+        String key(String requestKey) {
+            return test + ": " + requestKey + " #" + occurrences.merge(requestKey, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.bookstore.api.cassette;
+
+public enum CassetteMode {
+    OFF,
+    RECORD,
+    REPLAY
+}
@@ -1,5 +1,6 @@
 package com.bookstore.api.config;
 
+import com.bookstore.api.server.LocalBookStoreServer;
 import java.io.IOException;
 import java.util.Properties;
 
@@ -15,14 +16,373 @@ public class Configuration {
     }
 
     public static String getBaseUrl() {
-        return properties.getProperty("api.base.url");
+        if (isLocalMode()) {
+            return LocalBookStoreServer.shared().getBaseUrl();
+        }
+        return get("api.base.url");
     }
 
     public static String getBooksEndpoint() {
-        return properties.getProperty("api.books.endpoint");
+        return get("api.books.endpoint");
     }
 
     public static String getAuthorsEndpoint() {
-        return properties.getProperty("api.authors.endpoint");
+        return get("api.authors.endpoint");
+    }
+
+    public static String getApiMode() {
+        return get("api.mode", "remote");
+    }
+
+    public static boolean isLocalMode() {
+        return "local".equalsIgnoreCase(getApiMode());
+    }
+
+    // Load-generating groups only go remote when api.mode is given as a system property, never from the file default.
+    public static boolean isLoadTargetExplicit() {
+        return isLocalMode() || System.getProperty("api.mode") != null;
+    }
+
+    public static int getLocalPort() {
+        return Integer.parseInt(get("api.local.port", "0"));
+    }
+
+    public static String getParallelMode() {
+        return get("test.parallel", "none");
+    }
+
+    public static int getThreadCount() {
+        return Integer.parseInt(get("test.threads", "4"));
+    }
+
+    public static long getIdBase() {
+        return Long.parseLong(get("test.id.base", "0"));
+    }
+
+    public static double getLoadRate() {
+        return Double.parseDouble(get("load.rate", "500"));
+    }
+
+    public static long getLoadDurationSeconds() {
+        return Long.parseLong(get("load.duration.seconds", "60"));
+    }
+
+    public static long getLoadWarmupSeconds() {
+        return Long.parseLong(get("load.warmup.seconds", "10"));
+    }
+
+    public static String getLoadMix() {
+        return get("load.mix", "GET_BOOK:50,GET_ALL_BOOKS:5,ADD_BOOK:20,UPDATE_BOOK:15,DELETE_BOOK:10");
+    }
+
+    public static int getLoadMaxInFlight() {
+        return Integer.parseInt(get("load.max.inflight", "10000"));
+    }
+
+    public static double getLoadMaxErrorRatio() {
+        return Double.parseDouble(get("load.max.error.ratio", "0.01"));
+    }
+
+    public static String getLogLevel() {
+        return get("log.level", "DEBUG");
+    }
+
+    public static String getLogFile() {
+        return get("log.file", "reports/api-console.log");
+    }
+
+    public static int getLogQueueCapacity() {
+        return Integer.parseInt(get("log.queue.capacity", "8192"));
+    }
+
+    public static String getLogOverflowPolicy() {
+        return get("log.overflow", "BLOCK");
+    }
+
+    public static int getLogBatchSize() {
+        return Integer.parseInt(get("log.batch.size", "256"));
+    }
+
+    public static long getLogMaxFileBytes() {
+        return Long.parseLong(get("log.max.file.mb", "10")) * 1024 * 1024;
+    }
+
+    public static int getLogMaxArchives() {
+        return Integer.parseInt(get("log.max.archives", "5"));
+    }
+
+    public static String getCapturePolicy() {
+        return get("report.capture.policy", "ALWAYS");
+    }
+
+    public static double getCaptureSamplePercent() {
+        return Double.parseDouble(get("report.capture.sample.percent", "10"));
+    }
+
+    public static int getCaptureMaxBodyBytes() {
+        return Integer.parseInt(get("report.capture.max.body.kb", "64")) * 1024;
+    }
+
+    public static boolean isCaptureDedupe() {
+        return Boolean.parseBoolean(get("report.capture.dedupe", "true"));
+    }
+
+    public static int getHttpMaxTotal() {
+        return Integer.parseInt(get("api.http.max.total", "64"));
+    }
+
+    public static int getHttpMaxPerRoute() {
+        return Integer.parseInt(get("api.http.max.per.route", "32"));
+    }
+
+    public static String getHttpRouteLimits() {
+        return get("api.http.route.limits", "");
+    }
+
+    public static int getHttpConnectTimeoutMillis() {
+        return Integer.parseInt(get("api.http.connect.timeout.ms", "5000"));
+    }
+
+    public static int getHttpSocketTimeoutMillis() {
+        return Integer.parseInt(get("api.http.socket.timeout.ms", "30000"));
+    }
+
+    public static long getHttpLeaseTimeoutMillis() {
+        return Long.parseLong(get("api.http.lease.timeout.ms", "10000"));
+    }
+
+    public static long getHttpKeepAliveMillis() {
+        return Long.parseLong(get("api.http.keepalive.ms", "30000"));
+    }
+
+    public static long getHttpIdleEvictMillis() {
+        return Long.parseLong(get("api.http.idle.evict.ms", "15000"));
+    }
+
+    public static long getHttpReleaseBufferBytes() {
+        return Long.parseLong(get("api.http.release.buffer.bytes", "262144"));
+    }
+
+    public static boolean isCacheEnabled() {
+        return Boolean.parseBoolean(get("api.cache.enabled", "false"));
+    }
+
+    public static int getCacheMaxEntries() {
+        return Integer.parseInt(get("api.cache.max.entries", "256"));
+    }
+
+    public static long getCacheTtlSeconds() {
+        return Long.parseLong(get("api.cache.ttl.seconds", "60"));
+    }
+
+    public static boolean isCleanupEnabled() {
+        return Boolean.parseBoolean(get("cleanup.enabled", "true"));
+    }
+
+    public static int getCleanupParallelism() {
+        return Integer.parseInt(get("cleanup.parallelism", "16"));
+    }
+
+    public static int getCleanupBatchSize() {
+        return Integer.parseInt(get("cleanup.batch.size", "200"));
+    }
+
+    public static long getDataSeed() {
+        return Long.parseLong(get("data.seed", "20250730"));
+    }
+
+    public static String getDataTitleWords() {
+        return get("data.title.words", "2-5");
+    }
+
+    public static String getDataDescriptionWords() {
+        return get("data.description.words", "6-12");
+    }
+
+    public static String getDataExcerptWords() {
+        return get("data.excerpt.words", "30-60");
+    }
+
+    public static String getScheduleHistoryFile() {
+        return get("schedule.history.file", ".test-history/durations.bin");
+    }
+
+    public static boolean isScheduleLongestFirst() {
+        return Boolean.parseBoolean(get("schedule.longest.first", "true"));
+    }
+
+    public static int getScheduleBudgetSeconds() {
+        return Integer.parseInt(get("schedule.budget.seconds", "0"));
+    }
+
+    public static String getScheduleGroupValues() {
+        return get("schedule.group.values", "smoke:5,regression:2");
+    }
+
+    public static long getScheduleUnknownMillis() {
+        return Long.parseLong(get("schedule.unknown.ms", "500"));
+    }
+
+    public static boolean isHedgeEnabled() {
+        return Boolean.parseBoolean(get("api.hedge.enabled", "false"));
+    }
+
+    public static double getHedgePercentile() {
+        return Double.parseDouble(get("api.hedge.percentile", "95"));
+    }
+
+    public static double getHedgeMaxRatio() {
+        return Double.parseDouble(get("api.hedge.max.ratio", "0.1"));
+    }
+
+    public static int getHedgeMinSamples() {
+        return Integer.parseInt(get("api.hedge.min.samples", "20"));
+    }
+
+    public static long getHedgeMinDelayMillis() {
+        return Long.parseLong(get("api.hedge.min.delay.ms", "5"));
+    }
+
+    public static int getHedgeWindow() {
+        return Integer.parseInt(get("api.hedge.window", "256"));
+    }
+
+    public static double getTimeoutMultiplier() {
+        return Double.parseDouble(get("api.timeout.multiplier", "4"));
+    }
+
+    public static long getTimeoutMinMillis() {
+        return Long.parseLong(get("api.timeout.min.ms", "1000"));
+    }
+
+    public static long getTimeoutMaxMillis() {
+        return Long.parseLong(get("api.timeout.max.ms", "30000"));
+    }
+
+    public static String getCassetteMode() {
+        return get("api.cassette.mode", "OFF");
+    }
+
+    public static String getCassetteDir() {
+        return get("api.cassette.dir", "src/test/resources/cassettes");
+    }
+
+    public static int getSoakWorkers() {
+        return Integer.parseInt(get("soak.workers", "32"));
+    }
+
+    public static int getSoakDurationSeconds() {
+        return Integer.parseInt(get("soak.duration.seconds", "30"));
+    }
+
+    public static int getSoakKeyspace() {
+        return Integer.parseInt(get("soak.keyspace", "16"));
+    }
+
+    public static boolean isSoakStatefulBackend() {
+        return Boolean.parseBoolean(get("soak.stateful.backend", "false"));
+    }
+
+    public static String getContractEndpoints() {
+        return get("contract.endpoints", "");
+    }
+
+    public static double getContractSamplePercent() {
+        return Double.parseDouble(get("contract.sample.percent", "0"));
+    }
+
+    public static String getWatchClasses() {
+        return get("watch.classes", "");
+    }
+
+    public static String getWatchGroups() {
+        return get("watch.groups", "smoke,regression,books,authors,edge");
+    }
+
+    public static int getPageSize() {
+        return Integer.parseInt(get("api.page.size", "500"));
+    }
+
+    public static int getPagePrefetchDepth() {
+        return Integer.parseInt(get("api.page.prefetch", "2"));
+    }
+
+    public static int getBulkWindow() {
+        return Integer.parseInt(get("api.bulk.window", "32"));
+    }
+
+    public static boolean isLatencyBaselineEnabled() {
+        return Boolean.parseBoolean(get("latency.baseline.enabled", "true"));
+    }
+
+    public static String getLatencyBaselineFile() {
+        return get("latency.baseline.file", ".test-history/latency-baseline.bin");
+    }
+
+    public static int getLatencyBaselineRuns() {
+        return Integer.parseInt(get("latency.baseline.runs", "5"));
+    }
+
+    public static int getLatencyBaselineMinSamples() {
+        return Integer.parseInt(get("latency.baseline.min.samples", "20"));
+    }
+
+    public static double getLatencyBaselineAlpha() {
+        return Double.parseDouble(get("latency.baseline.alpha", "0.01"));
+    }
+
+    public static int getLatencyBaselineMinShiftPercent() {
+        return Integer.parseInt(get("latency.baseline.min.shift.percent", "10"));
+    }
+
+    public static String getResilienceScenarios() {
+        return get("resilience.scenarios", "baseline");
+    }
+
+    public static String getResilienceScenario(String name) {
+        return get("resilience.scenario." + name, "");
+    }
+
+    public static double getResilienceRate() {
+        return Double.parseDouble(get("resilience.rate", "50"));
+    }
+
+    public static long getResilienceDurationSeconds() {
+        return Long.parseLong(get("resilience.duration.seconds", "20"));
+    }
+
+    public static long getResilienceWarmupSeconds() {
+        return Long.parseLong(get("resilience.warmup.seconds", "5"));
+    }
+
+    public static double getResilienceMinThroughputRatio() {
+        return Double.parseDouble(get("resilience.min.throughput.ratio", "0.9"));
+    }
+
+    // Per-scenario override first: resilience.scenario.<name>.max.p99.ms
+    public static long getResilienceMaxP99Millis(String scenario) {
+        return Long.parseLong(get("resilience.scenario." + scenario + ".max.p99.ms",
+                get("resilience.max.p99.ms", "2000")));
+    }
+
+    public static int getIntegrityMaxAuthorsPerBook() {
+        return Integer.parseInt(get("integrity.max.authors.per.book", "0"));
+    }
+
+    public static int getIntegritySampleSize() {
+        return Integer.parseInt(get("integrity.sample.size", "20"));
+    }
+
+    public static int getIntegrityParallelism() {
+        return Integer.parseInt(get("integrity.parallelism", "8"));
+    }
+
+    private static String get(String key) {
+        return System.getProperty(key, properties.getProperty(key));
+    }
+
+    private static String get(String key, String defaultValue) {
+        String value = get(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
     }
-}
\ No newline at end of file
+}
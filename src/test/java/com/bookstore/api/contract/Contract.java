@@ -0,0 +1,155 @@
+package com.bookstore.api.contract;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// A model class compiled into a flat field table: name -> (index, JSON kind, required). Validation walks the
+// tokens of the body once, so a 100k-element array costs one pass and no object mapping.
+public final class Contract {
+
+    private static final JsonFactory factory = new JsonFactory();
+    private static final Map<Class<?>, Contract> compiled = new ConcurrentHashMap<>();
+
+    enum Kind { INTEGER, NUMBER, STRING, BOOLEAN }
+
+    private final String name;
+    private final String[] fieldNames;
+    private final Kind[] kinds;
+    private final boolean[] nullable;
+    private final Map<String, Integer> index = new HashMap<>();
+    private final BitSet required = new BitSet();
+
+    private Contract(Class<?> model) {
+        this.name = model.getSimpleName();
+        List<Field> fields = new ArrayList<>();
+        for (Field field : model.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        fieldNames = new String[fields.size()];
+        kinds = new Kind[fields.size()];
+        nullable = new boolean[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            fieldNames[i] = field.getName();
+            kinds[i] = kindOf(field.getType());
+            // Primitives must be present; reference fields may be null but the key must still be sent.
+            nullable[i] = !field.getType().isPrimitive();
+            index.put(field.getName(), i);
+            required.set(i);
+        }
+    }
+
+    public static Contract of(Class<?> model) {
+        return compiled.computeIfAbsent(model, Contract::new);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Accepts a single object or an array of objects; stops collecting after maxViolations.
+    public ContractResult validate(byte[] body, int maxViolations) {
+        try (JsonParser parser = factory.createParser(body)) {
+            return validate(parser, maxViolations);
+        } catch (IOException e) {
+            return ContractResult.malformed(name, e.getMessage());
+        }
+    }
+
+    private ContractResult validate(JsonParser parser, int maxViolations) throws IOException {
+        List<String> violations = new ArrayList<>();
+        long elements = 0;
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                validateObject(parser, token, elements, violations, maxViolations);
+                elements++;
+            }
+        } else {
+            validateObject(parser, token, -1, violations, maxViolations);
+            elements = 1;
+        }
+        return new ContractResult(name, elements, violations);
+    }
+
+    // element is the array index, or -1 for a top-level object; paths are only built for violations.
+    private void validateObject(JsonParser parser, JsonToken token, long element, List<String> violations,
+                                int maxViolations) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            add(violations, maxViolations, path(element) + ": expected object, got " + token);
+            parser.skipChildren();
+            return;
+        }
+        BitSet seen = new BitSet(fieldNames.length);
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            Integer i = index.get(field);
+            if (i == null) {
+                add(violations, maxViolations, path(element) + "." + field + ": unexpected field");
+                parser.skipChildren();
+                continue;
+            }
+            seen.set(i);
+            if (!matches(kinds[i], value, nullable[i])) {
+                add(violations, maxViolations, path(element) + "." + field + ": expected " + kinds[i]
+                        + (nullable[i] ? " or null" : "") + ", got " + value);
+                parser.skipChildren();
+            }
+        }
+        if (seen.cardinality() != required.cardinality()) {
+            BitSet missing = (BitSet) required.clone();
+            missing.andNot(seen);
+            missing.stream().forEach(i ->
+                    add(violations, maxViolations, path(element) + "." + fieldNames[i] + ": missing"));
+        }
+    }
+
+    private static String path(long element) {
+        return element < 0 ? "$" : "[" + element + "]";
+    }
+
+    private static boolean matches(Kind kind, JsonToken value, boolean nullable) {
+        if (value == JsonToken.VALUE_NULL) {
+            return nullable;
+        }
+        return switch (kind) {
+            case INTEGER -> value == JsonToken.VALUE_NUMBER_INT;
+            case NUMBER -> value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT;
+            case STRING -> value == JsonToken.VALUE_STRING;
+            case BOOLEAN -> value == JsonToken.VALUE_TRUE || value == JsonToken.VALUE_FALSE;
+        };
+    }
+
+    private static Kind kindOf(Class<?> type) {
+        if (type == int.class || type == long.class || type == short.class || type == Integer.class
+                || type == Long.class || type == Short.class) {
+            return Kind.INTEGER;
+        }
+        if (type == double.class || type == float.class || type == Double.class || type == Float.class) {
+            return Kind.NUMBER;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Kind.BOOLEAN;
+        }
+        return Kind.STRING;
+    }
+
+    private static void add(List<String> violations, int maxViolations, String violation) {
+        if (violations.size() < maxViolations) {
+            violations.add(violation);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.bookstore.api.contract;
+
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.metrics.LatencyHistogram;
+import com.bookstore.api.metrics.TimingFilter;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// Validates successful GET bodies against the model contracts: always for endpoints listed in
+// contract.endpoints, otherwise for contract.sample.percent of responses. A violation fails the request.
+public class ContractFilter implements OrderedFilter {
+    private static final int MAX_VIOLATIONS = 10;
+    private static final Map<String, EndpointCost> costs = new ConcurrentHashMap<>();
+
+    private final ApiConfiguration config;
+    private final Set<String> endpoints;
+    private final double samplePercent;
+
+    public ContractFilter(ApiConfiguration config) {
+        this(config, Arrays.stream(Configuration.getContractEndpoints().split(","))
+                .map(String::trim)
+                .filter(endpoint -> !endpoint.isEmpty())
+                .collect(Collectors.toSet()), Configuration.getContractSamplePercent());
+    }
+
+    public ContractFilter(ApiConfiguration config, Set<String> endpoints, double samplePercent) {
+        this.config = config;
+        this.endpoints = Set.copyOf(endpoints);
+        this.samplePercent = samplePercent;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (!"GET".equals(requestSpec.getMethod()) || response.getStatusCode() != 200) {
+            return response;
+        }
+        String endpoint = TimingFilter.endpointKey(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        if (!endpoints.contains(endpoint) && (samplePercent <= 0
+                || ThreadLocalRandom.current().nextDouble(100) >= samplePercent)) {
+            return response;
+        }
+        Contract contract = contractFor(requestSpec.getUserDefinedPath());
+        if (contract == null) {
+            return response;
+        }
+        byte[] body = response.asByteArray();
+        long start = System.nanoTime();
+        ContractResult result = contract.validate(body, MAX_VIOLATIONS);
+        costs.computeIfAbsent(endpoint, key -> new EndpointCost())
+                .record(System.nanoTime() - start, body.length, result.elements(), result.isValid());
+        if (!result.isValid()) {
+            throw new AssertionError(endpoint + " response violates the " + contract.getName() + " contract:\n  "
+                    + String.join("\n  ", result.violations()));
+        }
+        return response;
+    }
+
+    // Outermost of the reporting filters: validation cost never shows up as request latency.
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 4;
+    }
+
+    public static String summary() {
+        Map<String, EndpointCost> sorted = new TreeMap<>(costs);
+        StringBuilder summary = new StringBuilder();
+        sorted.forEach((endpoint, cost) -> summary.append(String.format(
+                "%-32s validations=%d failed=%d elements=%d bytes=%d | cost p50=%.3fms p99=%.3fms (%.1f MB/s)%n",
+                endpoint, cost.time.getCount(), cost.failed.sum(), cost.elements.sum(), cost.bytes.sum(),
+                cost.time.percentileMillis(50), cost.time.percentileMillis(99), cost.megabytesPerSecond())));
+        return summary.toString();
+    }
+
+    public static boolean hasValidations() {
+        return !costs.isEmpty();
+    }
+
+    private Contract contractFor(String path) {
+        if (path.startsWith(config.getBooksEndpoint())) {
+            return Contract.of(Book.class);
+        }
+        if (path.startsWith(config.getAuthorsEndpoint())) {
+            return Contract.of(Author.class);
+        }
+        return null;
+    }
+
+    private static final class EndpointCost {
+        private final LatencyHistogram time = new LatencyHistogram();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder elements = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(long nanos, long size, long count, boolean valid) {
+            time.recordNanos(nanos);
+            totalNanos.add(nanos);
+            bytes.add(size);
+            elements.add(count);
+            if (!valid) {
+                failed.increment();
+            }
+        }
+
+        double megabytesPerSecond() {
+            long nanos = totalNanos.sum();
+            return nanos == 0 ? 0 : bytes.sum() / 1e6 / (nanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookstore.api.contract;
+
+import java.util.List;
+
+public record ContractResult(String contract, long elements, List<String> violations) {
+
+    public static ContractResult malformed(String contract, String message) {
+        return new ContractResult(contract, 0, List.of("malformed JSON: " + message));
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+}
@@ -0,0 +1,269 @@
+package com.bookstore.api.fault;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+// HTTP/1.1 proxy on a loopback port in front of any base URL (https upstreams are spoken to over TLS, the client
+// side is always plain http). Each client connection gets its own upstream connection, so keep-alive behaves as
+// it would without the proxy. Faults are applied per request, in order: reset, 5xx burst, latency, then the
+// forwarded response is either cut off (partial) or streamed under the bandwidth cap.
+public class FaultInjectingProxy implements AutoCloseable {
+    private static final int SLICES_PER_SECOND = 50;
+    // The upstream may have applied a POST or PUT before the connection dropped, so only these are sent twice.
+    private static final Set<String> RETRYABLE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "DELETE");
+
+    private final URI upstream;
+    private final FaultPlan plan;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder partials = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder upstreamErrors = new LongAdder();
+    private ServerSocket server;
+
+    public FaultInjectingProxy(String upstreamBaseUrl, FaultPlan plan) {
+        this.upstream = URI.create(upstreamBaseUrl);
+        this.plan = plan;
+    }
+
+    public synchronized FaultInjectingProxy start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = new ServerSocket();
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start fault-injecting proxy", e);
+        }
+        ServerSocket listening = server;
+        executor.execute(() -> acceptLoop(listening));
+        ApiLogger.log("🧨 Fault-injecting proxy " + getBaseUrl() + " -> " + upstream);
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    // Requests the proxy deliberately failed: resets, truncated responses and injected error statuses.
+    public long getInjectedFaults() {
+        return resets.sum() + partials.sum() + injectedErrors.sum();
+    }
+
+    public String summary() {
+        return String.format("requests=%d delayed=%d resets=%d partial=%d injected5xx=%d upstreamErrors=%d",
+                requests.sum(), delayed.sum(), resets.sum(), partials.sum(), injectedErrors.sum(),
+                upstreamErrors.sum());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            // Closing anyway.
+        }
+        executor.shutdownNow();
+        server = null;
+    }
+
+    private void acceptLoop(ServerSocket listening) {
+        while (!listening.isClosed()) {
+            try {
+                Socket client = listening.accept();
+                client.setTcpNoDelay(true);
+                executor.execute(() -> serve(client));
+            } catch (IOException e) {
+                if (!listening.isClosed()) {
+                    ApiLogger.log("⚠️ Proxy accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client; Upstream upstreamConnection = new Upstream()) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = client.getOutputStream();
+            HttpMessage request;
+            while ((request = HttpMessage.readRequest(in)) != null) {
+                requests.increment();
+                String path = request.path();
+                FaultProfile profile = plan.profileFor(path);
+                if (profile.resets()) {
+                    resets.increment();
+                    reset(client);
+                    return;
+                }
+                int status = plan.injectedStatus(path);
+                if (status != 0) {
+                    injectedErrors.increment();
+                    write(out, HttpMessage.response(status, "Injected Fault", "{\"fault\":\"injected\"}"));
+                    continue;
+                }
+                long delay = profile.latency().sampleMillis();
+                if (delay > 0) {
+                    delayed.increment();
+                    Thread.sleep(delay);
+                }
+                HttpMessage response;
+                try {
+                    response = upstreamConnection.exchange(request);
+                } catch (IOException e) {
+                    upstreamErrors.increment();
+                    write(out, HttpMessage.response(502, "Bad Gateway", "{\"fault\":\"upstream\"}"));
+                    return;
+                }
+                if (profile.truncates() && response.body().length > 0) {
+                    partials.increment();
+                    write(out, response, response.body().length / 2, profile.bandwidthBytesPerSecond());
+                    reset(client);
+                    return;
+                }
+                write(out, response, response.body().length, profile.bandwidthBytesPerSecond());
+                if (!response.keepAlive() || !request.keepAlive()) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // Client went away; nothing to report.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(OutputStream out, HttpMessage message) throws IOException, InterruptedException {
+        write(out, message, message.body().length, 0);
+    }
+
+    private static void write(OutputStream out, HttpMessage message, int bodyBytes, long bytesPerSecond)
+            throws IOException, InterruptedException {
+        byte[] head = message.head();
+        if (bytesPerSecond <= 0) {
+            out.write(head);
+            out.write(message.body(), 0, bodyBytes);
+            out.flush();
+            return;
+        }
+        // Paced in small slices so the cap holds over any window longer than a slice.
+        int slice = (int) Math.max(1, bytesPerSecond / SLICES_PER_SECOND);
+        long start = System.nanoTime();
+        long written = 0;
+        byte[] all = new byte[head.length + bodyBytes];
+        System.arraycopy(head, 0, all, 0, head.length);
+        System.arraycopy(message.body(), 0, all, head.length, bodyBytes);
+        while (written < all.length) {
+            int length = (int) Math.min(slice, all.length - written);
+            out.write(all, (int) written, length);
+            out.flush();
+            written += length;
+            long due = start + TimeUnit.SECONDS.toNanos(written) / bytesPerSecond;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+
+    // SO_LINGER 0 makes close() send RST instead of FIN.
+    private static void reset(Socket client) throws SocketException {
+        client.setSoLinger(true, 0);
+    }
+
+    private final class Upstream implements Closeable {
+        private Socket socket;
+        private InputStream in;
+        private OutputStream out;
+
+        HttpMessage exchange(HttpMessage request) throws IOException {
+            HttpMessage forwarded = request.withHeader("Host", upstream.getAuthority());
+            boolean reused = socket != null;
+            try {
+                return send(forwarded);
+            } catch (IOException e) {
+                // A reused upstream connection may have been closed by the server while idle: retry once, fresh.
+                close();
+                if (!reused || !RETRYABLE_METHODS.contains(request.method())) {
+                    throw e;
+                }
+                return send(forwarded);
+            }
+        }
+
+        private HttpMessage send(HttpMessage request) throws IOException {
+            if (socket == null) {
+                open();
+            }
+            out.write(request.head());
+            out.write(request.body());
+            out.flush();
+            HttpMessage response = HttpMessage.readResponse(in, request.method());
+            if (!response.keepAlive()) {
+                close();
+            }
+            return response;
+        }
+
+        private void open() throws IOException {
+            boolean tls = "https".equalsIgnoreCase(upstream.getScheme());
+            int port = upstream.getPort() > 0 ? upstream.getPort() : tls ? 443 : 80;
+            if (tls) {
+                SSLSocket sslSocket = (SSLSocket) SSLSocketFactory.getDefault().createSocket();
+                SSLParameters parameters = sslSocket.getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslSocket.setSSLParameters(parameters);
+                socket = sslSocket;
+            } else {
+                socket = new Socket();
+            }
+            socket.connect(new InetSocketAddress(upstream.getHost(), port), Configuration.getHttpConnectTimeoutMillis());
+            socket.setSoTimeout(Configuration.getHttpSocketTimeoutMillis());
+            socket.setTcpNoDelay(true);
+            in = new BufferedInputStream(socket.getInputStream());
+            out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        @Override
+        public void close() {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Already broken.
+                }
+                socket = null;
+            }
+        }
+    }
+}
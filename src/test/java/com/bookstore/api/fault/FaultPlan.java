@@ -0,0 +1,73 @@
+package com.bookstore.api.fault;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fault profiles per route prefix; the longest matching prefix wins. Format: sections separated by '|', each
+// either a bare profile (applies to every route) or /route/prefix:profile, e.g.
+// latency=fixed:20|/api/v1/Books:burst=0.05x5:503;latency=uniform:0:200
+public class FaultPlan {
+
+    private final List<Route> routes;
+
+    private record Route(String prefix, FaultProfile profile, AtomicInteger burstRemaining) {
+    }
+
+    public FaultPlan(List<String> prefixes, List<FaultProfile> profiles) {
+        List<Route> sorted = new ArrayList<>();
+        for (int i = 0; i < prefixes.size(); i++) {
+            sorted.add(new Route(prefixes.get(i), profiles.get(i), new AtomicInteger()));
+        }
+        sorted.sort(Comparator.comparingInt((Route route) -> route.prefix().length()).reversed());
+        this.routes = List.copyOf(sorted);
+    }
+
+    public static FaultPlan parse(String spec) {
+        List<String> prefixes = new ArrayList<>();
+        List<FaultProfile> profiles = new ArrayList<>();
+        for (String section : spec.split("\\|")) {
+            String trimmed = section.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.indexOf(':');
+            boolean routed = trimmed.startsWith("/") && colon > 0;
+            prefixes.add(routed ? trimmed.substring(0, colon) : "/");
+            profiles.add(FaultProfile.parse(routed ? trimmed.substring(colon + 1) : trimmed));
+        }
+        return new FaultPlan(prefixes, profiles);
+    }
+
+    FaultProfile profileFor(String path) {
+        Route route = route(path);
+        return route == null ? FaultProfile.NONE : route.profile();
+    }
+
+    // Status to answer with instead of forwarding, or 0 to forward.
+    int injectedStatus(String path) {
+        Route route = route(path);
+        if (route == null) {
+            return 0;
+        }
+        FaultProfile.Burst burst = route.profile().burst();
+        if (route.burstRemaining().getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return burst.status();
+        }
+        if (burst.length() > 0 && FaultProfile.roll(burst.probability())) {
+            route.burstRemaining().set(burst.length() - 1);
+            return burst.status();
+        }
+        return 0;
+    }
+
+    private Route route(String path) {
+        for (Route route : routes) {
+            if (path.startsWith(route.prefix())) {
+                return route;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.bookstore.api.fault;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Faults for one route. Probabilities are per request; bandwidth caps each response stream in bytes/second
+// (0 = unlimited). Format: latency=lognormal:80:0.5;bandwidth=16384;reset=0.01;partial=0.01;burst=0.02x5:503
+public record FaultProfile(Delay latency, long bandwidthBytesPerSecond, double resetProbability,
+                           double partialProbability, Burst burst) {
+
+    public static final FaultProfile NONE = new FaultProfile(Delay.NONE, 0, 0, 0, Burst.NONE);
+
+    public FaultProfile {
+        if (bandwidthBytesPerSecond < 0 || !isProbability(resetProbability) || !isProbability(partialProbability)) {
+            throw new IllegalArgumentException("Invalid fault profile: bandwidth " + bandwidthBytesPerSecond
+                    + ", reset " + resetProbability + ", partial " + partialProbability);
+        }
+    }
+
+    public static FaultProfile parse(String spec) {
+        Delay latency = Delay.NONE;
+        long bandwidth = 0;
+        double reset = 0;
+        double partial = 0;
+        Burst burst = Burst.NONE;
+        for (String rule : spec.split(";")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            String[] parts = rule.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid fault rule: " + rule);
+            }
+            String value = parts[1].trim();
+            switch (parts[0].trim().toLowerCase()) {
+                case "latency" -> latency = Delay.parse(value);
+                case "bandwidth" -> bandwidth = Long.parseLong(value);
+                case "reset" -> reset = Double.parseDouble(value);
+                case "partial" -> partial = Double.parseDouble(value);
+                case "burst" -> burst = Burst.parse(value);
+                default -> throw new IllegalArgumentException("Unknown fault rule: " + rule);
+            }
+        }
+        return new FaultProfile(latency, bandwidth, reset, partial, burst);
+    }
+
+    boolean resets() {
+        return roll(resetProbability);
+    }
+
+    boolean truncates() {
+        return roll(partialProbability);
+    }
+
+    static boolean roll(double probability) {
+        return probability > 0 && ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    private static boolean isProbability(double value) {
+        return value >= 0 && value <= 1;
+    }
+
+    // fixed:ms, uniform:minMs:maxMs, exponential:meanMs, lognormal:medianMs:sigma
+    public record Delay(String distribution, double first, double second) {
+
+        public static final Delay NONE = new Delay("none", 0, 0);
+
+        public static Delay parse(String spec) {
+            String[] parts = spec.split(":");
+            String distribution = parts[0].trim().toLowerCase();
+            int expected = switch (distribution) {
+                case "none" -> 1;
+                case "fixed", "exponential" -> 2;
+                case "uniform", "lognormal" -> 3;
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            };
+            if (parts.length != expected) {
+                throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+            }
+            return new Delay(distribution, expected > 1 ? Double.parseDouble(parts[1]) : 0,
+                    expected > 2 ? Double.parseDouble(parts[2]) : 0);
+        }
+
+        public long sampleMillis() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            double millis = switch (distribution) {
+                case "fixed" -> first;
+                case "uniform" -> first + random.nextDouble() * (second - first);
+                case "exponential" -> -first * Math.log(1 - random.nextDouble());
+                case "lognormal" -> first * Math.exp(second * random.nextGaussian());
+                default -> 0;
+            };
+            return Math.max(0, Math.round(millis));
+        }
+    }
+
+    // probability x length : status. Once a burst starts, the next `length` requests on the route get `status`.
+    public record Burst(double probability, int length, int status) {
+
+        public static final Burst NONE = new Burst(0, 0, 503);
+
+        public static Burst parse(String spec) {
+            String[] statusSplit = spec.split(":");
+            String[] lengthSplit = statusSplit[0].split("x");
+            if (lengthSplit.length != 2) {
+                throw new IllegalArgumentException("Invalid burst, expected probability x length [: status]: " + spec);
+            }
+            return new Burst(Double.parseDouble(lengthSplit[0].trim()), Integer.parseInt(lengthSplit[1].trim()),
+                    statusSplit.length > 1 ? Integer.parseInt(statusSplit[1].trim()) : 503);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.bookstore.api.fault;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Just enough HTTP/1.1 framing for the proxy: start line, headers and the raw body bytes, chunk framing included,
+// so a message can be forwarded byte for byte or cut off at any point.
+record HttpMessage(String startLine, List<String> headers, byte[] body, boolean closeDelimited) {
+
+    private static final int MAX_LINE = 16 * 1024;
+    private static final int MAX_HEADERS = 200;
+
+    // Null when the peer closed the connection between requests.
+    static HttpMessage readRequest(InputStream in) throws IOException {
+        String startLine = readLine(in, true);
+        if (startLine == null) {
+            return null;
+        }
+        List<String> headers = readHeaders(in);
+        return new HttpMessage(startLine, headers, readBody(in, headers, false), false);
+    }
+
+    static HttpMessage readResponse(InputStream in, String requestMethod) throws IOException {
+        String startLine = readLine(in, false);
+        List<String> headers = readHeaders(in);
+        int status = statusOf(startLine);
+        if (requestMethod.equals("HEAD") || status == 204 || status == 304 || status / 100 == 1) {
+            return new HttpMessage(startLine, headers, new byte[0], false);
+        }
+        boolean closeDelimited = header(headers, "Content-Length") == null && !isChunked(headers);
+        return new HttpMessage(startLine, headers, readBody(in, headers, true), closeDelimited);
+    }
+
+    static HttpMessage response(int status, String reason, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return new HttpMessage("HTTP/1.1 " + status + " " + reason,
+                List.of("Content-Type: application/json", "Content-Length: " + bytes.length), bytes, false);
+    }
+
+    String method() {
+        return startLine.substring(0, startLine.indexOf(' '));
+    }
+
+    String path() {
+        String target = startLine.split(" ")[1];
+        int query = target.indexOf('?');
+        return query < 0 ? target : target.substring(0, query);
+    }
+
+    String header(String name) {
+        return header(headers, name);
+    }
+
+    boolean keepAlive() {
+        String connection = header("Connection");
+        return !closeDelimited && (connection == null || !connection.equalsIgnoreCase("close"));
+    }
+
+    HttpMessage withHeader(String name, String value) {
+        List<String> replaced = new ArrayList<>(headers.size() + 1);
+        for (String header : headers) {
+            if (!header.regionMatches(true, 0, name + ":", 0, name.length() + 1)) {
+                replaced.add(header);
+            }
+        }
+        replaced.add(name + ": " + value);
+        return new HttpMessage(startLine, replaced, body, closeDelimited);
+    }
+
+    byte[] head() {
+        StringBuilder head = new StringBuilder(256).append(startLine).append("\r\n");
+        headers.forEach(header -> head.append(header).append("\r\n"));
+        return head.append("\r\n").toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String header(List<String> headers, String name) {
+        for (String header : headers) {
+            if (header.regionMatches(true, 0, name + ":", 0, name.length() + 1)) {
+                return header.substring(name.length() + 1).trim();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isChunked(List<String> headers) {
+        String encoding = header(headers, "Transfer-Encoding");
+        return encoding != null && encoding.toLowerCase().contains("chunked");
+    }
+
+    private static int statusOf(String startLine) throws ProtocolException {
+        String[] parts = startLine.split(" ", 3);
+        try {
+            return Integer.parseInt(parts[1]);
+        } catch (RuntimeException e) {
+            throw new ProtocolException("Bad status line: " + startLine);
+        }
+    }
+
+    private static List<String> readHeaders(InputStream in) throws IOException {
+        List<String> headers = new ArrayList<>();
+        String line;
+        while (!(line = readLine(in, false)).isEmpty()) {
+            if (headers.size() == MAX_HEADERS) {
+                throw new ProtocolException("Too many headers");
+            }
+            headers.add(line);
+        }
+        return headers;
+    }
+
+    private static byte[] readBody(InputStream in, List<String> headers, boolean untilClose) throws IOException {
+        if (isChunked(headers)) {
+            return readChunked(in);
+        }
+        String length = header(headers, "Content-Length");
+        if (length != null) {
+            return in.readNBytes(Integer.parseInt(length));
+        }
+        return untilClose ? in.readAllBytes() : new byte[0];
+    }
+
+    private static byte[] readChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        while (true) {
+            String sizeLine = readLine(in, false);
+            raw.writeBytes((sizeLine + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            int extension = sizeLine.indexOf(';');
+            int size = Integer.parseInt((extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim(), 16);
+            if (size == 0) {
+                // Trailers up to the closing empty line.
+                String trailer;
+                do {
+                    trailer = readLine(in, false);
+                    raw.writeBytes((trailer + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                } while (!trailer.isEmpty());
+                return raw.toByteArray();
+            }
+            byte[] chunk = in.readNBytes(size + 2);
+            if (chunk.length < size + 2) {
+                throw new EOFException("Truncated chunk");
+            }
+            raw.writeBytes(chunk);
+        }
+    }
+
+    private static String readLine(InputStream in, boolean eofAllowed) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                if (eofAllowed && line.isEmpty()) {
+                    return null;
+                }
+                throw new EOFException("Connection closed mid-message");
+            }
+            if (line.length() == MAX_LINE) {
+                throw new ProtocolException("Line too long");
+            }
+            line.append((char) b);
+        }
+        int end = line.length();
+        return end > 0 && line.charAt(end - 1) == '\r' ? line.substring(0, end - 1) : line.toString();
+    }
+}
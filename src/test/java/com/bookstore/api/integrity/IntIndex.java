@@ -0,0 +1,60 @@
+package com.bookstore.api.integrity;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Open-addressing int key -> record index table that threads can fill concurrently. Slots hold record index + 1
+// (0 = empty) and keys are read from the caller's key column, so no key sentinel is needed and nothing is boxed.
+final class IntIndex {
+
+    private final int[] keys;
+    private final AtomicIntegerArray slots;
+    private final int mask;
+
+    IntIndex(int[] keys) {
+        this.keys = keys;
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length * 2 - 1)) << 1;
+        this.slots = new AtomicIntegerArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    // Returns -1 when inserted, otherwise the index of the record that already holds the same key.
+    int insert(int record) {
+        int key = keys[record];
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            if (slots.compareAndSet(slot, 0, record + 1)) {
+                return -1;
+            }
+            int existing = slots.get(slot) - 1;
+            if (keys[existing] == key) {
+                return existing;
+            }
+        }
+    }
+
+    // Record index for the key, or -1.
+    int find(int key) {
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots.get(slot);
+            if (entry == 0) {
+                return -1;
+            }
+            if (keys[entry - 1] == key) {
+                return entry - 1;
+            }
+        }
+    }
+
+    long bytes() {
+        return 4L * slots.length();
+    }
+
+    // Murmur3 finalizer: sequential ids would otherwise fill neighbouring slots.
+    private static int mix(int key) {
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,27 @@
+package com.bookstore.api.integrity;
+
+import java.util.List;
+
+// Counts over the whole catalog; examples holds a few offending ids per finding.
+public record IntegrityReport(int books, int authors, int duplicateBookIds, int duplicateAuthorIds,
+                              int orphanAuthors, int booksWithoutAuthors, int maxAuthorsPerBook,
+                              int booksOverAuthorLimit, List<String> examples, long indexBytes, long millis) {
+
+    public int violations() {
+        return duplicateBookIds + duplicateAuthorIds + orphanAuthors + booksOverAuthorLimit;
+    }
+
+    public double indexMegabytesPerMillionRecords() {
+        int records = books + authors;
+        return records == 0 ? 0 : indexBytes * 1_000_000.0 / records / (1024 * 1024);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("books=%d authors=%d | duplicate book ids=%d duplicate author ids=%d orphan authors=%d "
+                        + "books over limit=%d | books without authors=%d max authors/book=%d | index %.1f MB "
+                        + "per million records, built and checked in %d ms", books, authors, duplicateBookIds,
+                duplicateAuthorIds, orphanAuthors, booksOverAuthorLimit, booksWithoutAuthors, maxAuthorsPerBook,
+                indexMegabytesPerMillionRecords(), millis);
+    }
+}
@@ -0,0 +1,260 @@
+package com.bookstore.api.integrity;
+
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.service.AsyncBookStoreService;
+import com.bookstore.api.service.Futures;
+import com.bookstore.api.service.IAsyncBookStoreService;
+import com.bookstore.api.service.IBookStoreService;
+import com.bookstore.api.service.PagedCatalog;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Checks the whole catalog from one fetch of books and authors instead of one getAuthorsByBookId per book.
+// Everything is held in int columns: a concurrent hash index per id column and authors grouped by book in
+// CSR form (offsets per book into one array of author positions). Every pass is O(n) and runs as fork/join
+// over ranges of the columns.
+public class ReferentialIntegrityVerifier {
+    private static final int LEAF_SIZE = 8192;
+    private static final int MAX_EXAMPLES = 10;
+
+    private final int[] bookIds;
+    private final int[] authorIds;
+    private final int[] authorBookIds;
+    private final int maxAuthorsPerBook;
+    private IntIndex bookIndex;
+    private int[] offsets;
+    private int[] authorsByBook;
+
+    public ReferentialIntegrityVerifier(Book[] books, Author[] authors, int maxAuthorsPerBook) {
+        this.bookIds = new int[books.length];
+        this.authorIds = new int[authors.length];
+        this.authorBookIds = new int[authors.length];
+        Arrays.parallelSetAll(bookIds, i -> books[i].getId());
+        Arrays.parallelSetAll(authorIds, i -> authors[i].getId());
+        Arrays.parallelSetAll(authorBookIds, i -> authors[i].getIdBook());
+        this.maxAuthorsPerBook = maxAuthorsPerBook;
+    }
+
+    // One traversal per collection, paged where the server supports it.
+    public static ReferentialIntegrityVerifier fetch(IBookStoreService service, int maxAuthorsPerBook) {
+        PagedCatalog catalog = new PagedCatalog(service);
+        Book[] books;
+        Author[] authors;
+        try (Stream<Book> stream = catalog.books()) {
+            books = stream.toArray(Book[]::new);
+        }
+        try (Stream<Author> stream = catalog.authors()) {
+            authors = stream.toArray(Author[]::new);
+        }
+        return new ReferentialIntegrityVerifier(books, authors, maxAuthorsPerBook);
+    }
+
+    public IntegrityReport verify() {
+        long start = System.nanoTime();
+        bookIndex = new IntIndex(bookIds);
+        Tally duplicateBooks = forkJoin(0, bookIds.length, (from, to) -> {
+            Tally tally = new Tally();
+            for (int i = from; i < to; i++) {
+                if (bookIndex.insert(i) >= 0) {
+                    tally.add("duplicate book id " + bookIds[i]);
+                }
+            }
+            return tally;
+        });
+        IntIndex authorIndex = new IntIndex(authorIds);
+        Tally duplicateAuthors = forkJoin(0, authorIds.length, (from, to) -> {
+            Tally tally = new Tally();
+            for (int i = from; i < to; i++) {
+                if (authorIndex.insert(i) >= 0) {
+                    tally.add("duplicate author id " + authorIds[i]);
+                }
+            }
+            return tally;
+        });
+
+        // Resolve each author's book once; -1 marks an orphan. Authors of a duplicated book id attach to the
+        // copy that won the index slot.
+        int[] authorBook = new int[authorIds.length];
+        AtomicIntegerArray counts = new AtomicIntegerArray(bookIds.length);
+        Tally orphans = forkJoin(0, authorIds.length, (from, to) -> {
+            Tally tally = new Tally();
+            for (int i = from; i < to; i++) {
+                int book = bookIndex.find(authorBookIds[i]);
+                authorBook[i] = book;
+                if (book < 0) {
+                    tally.add("author " + authorIds[i] + " -> missing book " + authorBookIds[i]);
+                } else {
+                    counts.incrementAndGet(book);
+                }
+            }
+            return tally;
+        });
+
+        offsets = new int[bookIds.length + 1];
+        Arrays.parallelSetAll(offsets, i -> i == 0 ? 0 : counts.get(i - 1));
+        Arrays.parallelPrefix(offsets, Integer::sum);
+        authorsByBook = new int[offsets[bookIds.length]];
+        AtomicIntegerArray cursor = new AtomicIntegerArray(Arrays.copyOf(offsets, bookIds.length));
+        forkJoin(0, authorIds.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (authorBook[i] >= 0) {
+                    authorsByBook[cursor.getAndIncrement(authorBook[i])] = i;
+                }
+            }
+            return new Tally();
+        });
+
+        Tally overLimit = forkJoin(0, bookIds.length, (from, to) -> {
+            Tally tally = new Tally();
+            for (int i = from; i < to; i++) {
+                int authors = offsets[i + 1] - offsets[i];
+                tally.max = Math.max(tally.max, authors);
+                if (authors == 0) {
+                    tally.zero++;
+                }
+                if (maxAuthorsPerBook > 0 && authors > maxAuthorsPerBook) {
+                    tally.add("book " + bookIds[i] + " has " + authors + " authors");
+                }
+            }
+            return tally;
+        });
+
+        List<String> examples = new ArrayList<>();
+        Stream.of(duplicateBooks, duplicateAuthors, orphans, overLimit).forEach(tally -> examples.addAll(tally.examples));
+        // Columns, both hash indexes and the CSR arrays that stay referenced by this verifier.
+        long indexBytes = 4L * (bookIds.length + authorIds.length + authorBookIds.length + offsets.length
+                + authorsByBook.length) + bookIndex.bytes() + authorIndex.bytes();
+        IntegrityReport report = new IntegrityReport(bookIds.length, authorIds.length, duplicateBooks.count,
+                duplicateAuthors.count, orphans.count, overLimit.zero, overLimit.max, overLimit.count,
+                List.copyOf(examples), indexBytes, (System.nanoTime() - start) / 1_000_000);
+        ApiLogger.log("🔗 Referential integrity: " + report);
+        return report;
+    }
+
+    // Sorted author ids of the book according to the fetched lists; empty for unknown books.
+    public int[] authorIdsOf(int bookId) {
+        requireVerified();
+        int book = bookIndex.find(bookId);
+        if (book < 0) {
+            return new int[0];
+        }
+        return IntStream.range(offsets[book], offsets[book + 1]).map(i -> authorIds[authorsByBook[i]]).sorted()
+                .toArray();
+    }
+
+    public int[] sampleBookIds(int size, long seed) {
+        int[] distinct = Arrays.stream(bookIds).distinct().toArray();
+        SplittableRandom random = new SplittableRandom(seed);
+        int sample = Math.min(size, distinct.length);
+        // Partial Fisher-Yates: the first `sample` slots end up a uniform sample.
+        for (int i = 0; i < sample; i++) {
+            int j = random.nextInt(i, distinct.length);
+            int swap = distinct[i];
+            distinct[i] = distinct[j];
+            distinct[j] = swap;
+        }
+        return Arrays.copyOf(distinct, sample);
+    }
+
+    // Compares getAuthorsByBookId for the given books with the index; returns one line per mismatch.
+    public List<String> crossCheck(IBookStoreService service, int[] bookIds, int parallelism) {
+        requireVerified();
+        List<Integer> ids = Arrays.stream(bookIds).boxed().toList();
+        List<Response> responses;
+        try (IAsyncBookStoreService async = new AsyncBookStoreService(service, parallelism)) {
+            responses = Futures.fanOut(ids, async::getAuthorsByBookId).join();
+        }
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < bookIds.length; i++) {
+            Response response = responses.get(i);
+            int[] expected = authorIdsOf(bookIds[i]);
+            if (response.getStatusCode() != 200) {
+                mismatches.add("book " + bookIds[i] + ": status " + response.getStatusCode());
+                continue;
+            }
+            int[] actual = Arrays.stream(response.as(Author[].class)).mapToInt(Author::getId).sorted().toArray();
+            if (!Arrays.equals(expected, actual)) {
+                mismatches.add("book " + bookIds[i] + ": index " + Arrays.toString(expected) + " vs endpoint "
+                        + Arrays.toString(actual));
+            }
+        }
+        ApiLogger.log(String.format("🔗 Cross-checked %d books against getAuthorsByBookId: %d mismatches",
+                bookIds.length, mismatches.size()));
+        return mismatches;
+    }
+
+    private void requireVerified() {
+        if (authorsByBook == null) {
+            throw new IllegalStateException("verify() builds the index; call it first");
+        }
+    }
+
+    private static Tally forkJoin(int from, int to, RangeTask task) {
+        return new Split(from, to, task).invoke();
+    }
+
+    private interface RangeTask {
+        Tally run(int from, int to);
+    }
+
+    // Never serialized; ForkJoinTask is Serializable only for historical reasons.
+    @SuppressWarnings("serial")
+    private static final class Split extends RecursiveTask<Tally> {
+        private final int from;
+        private final int to;
+        private final RangeTask task;
+
+        Split(int from, int to, RangeTask task) {
+            this.from = from;
+            this.to = to;
+            this.task = task;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= LEAF_SIZE) {
+                return task.run(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Split left = new Split(from, middle, task);
+            left.fork();
+            Tally right = new Split(middle, to, task).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private static final class Tally {
+        private final List<String> examples = new ArrayList<>();
+        private int count;
+        private int zero;
+        private int max;
+
+        void add(String example) {
+            count++;
+            if (examples.size() < MAX_EXAMPLES) {
+                examples.add(example);
+            }
+        }
+
+        Tally merge(Tally other) {
+            count += other.count;
+            zero += other.zero;
+            max = Math.max(max, other.max);
+            for (String example : other.examples) {
+                if (examples.size() < MAX_EXAMPLES) {
+                    examples.add(example);
+                }
+            }
+            return this;
+        }
+    }
+}
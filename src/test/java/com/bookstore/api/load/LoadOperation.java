@@ -0,0 +1,124 @@
+package com.bookstore.api.load;
+
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.service.IBookStoreService;
+import com.bookstore.api.utils.Constants;
+import com.bookstore.api.utils.IdAllocator;
+import com.bookstore.api.utils.TestDataGenerator;
+import io.restassured.response.Response;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+// prepare() picks ids and builds payloads; only the returned Request is timed.
+public enum LoadOperation {
+    GET_ALL_BOOKS {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            return IBookStoreService::getAllBooks;
+        }
+    },
+    GET_BOOK {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            int id = context.seededId();
+            return service -> service.getBookById(id);
+        }
+    },
+    ADD_BOOK {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            Book book = data.nextBook(IdAllocator.nextId());
+            return service -> {
+                Response response = service.addBook(book);
+                if (response.getStatusCode() == 200) {
+                    context.createdBooks.add(book.getId());
+                }
+                return response;
+            };
+        }
+    },
+    UPDATE_BOOK {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            Book book = data.nextBook(context.seededId());
+            return service -> service.updateBook(book.getId(), book);
+        }
+    },
+    DELETE_BOOK {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            int id = context.takeCreated(context.createdBooks);
+            return service -> service.deleteBook(id);
+        }
+    },
+    GET_ALL_AUTHORS {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            return IBookStoreService::getAllAuthors;
+        }
+    },
+    GET_AUTHOR {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            int id = context.seededId();
+            return service -> service.getAuthorById(id);
+        }
+    },
+    GET_AUTHORS_BY_BOOK {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            int bookId = context.seededId();
+            return service -> service.getAuthorsByBookId(bookId);
+        }
+    },
+    ADD_AUTHOR {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            Author author = data.nextAuthor(IdAllocator.nextId(), context.seededId());
+            return service -> {
+                Response response = service.addAuthor(author);
+                if (response.getStatusCode() == 200) {
+                    context.createdAuthors.add(author.getId());
+                }
+                return response;
+            };
+        }
+    },
+    UPDATE_AUTHOR {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            Author author = data.nextAuthor(context.seededId(), Constants.VALID_BOOK_ID);
+            return service -> service.updateAuthor(author.getId(), author);
+        }
+    },
+    DELETE_AUTHOR {
+        @Override
+        Request prepare(LoadContext context, TestDataGenerator data) {
+            int id = context.takeCreated(context.createdAuthors);
+            return service -> service.deleteAuthor(id);
+        }
+    };
+
+    abstract Request prepare(LoadContext context, TestDataGenerator data);
+
+    @FunctionalInterface
+    interface Request {
+        Response send(IBookStoreService service);
+    }
+
+    static final class LoadContext {
+        private final Queue<Integer> createdBooks = new ConcurrentLinkedQueue<>();
+        private final Queue<Integer> createdAuthors = new ConcurrentLinkedQueue<>();
+
+        private int seededId() {
+            return ThreadLocalRandom.current().nextInt(1, Constants.SEEDED_BOOK_COUNT + 1);
+        }
+
+        private int takeCreated(Queue<Integer> created) {
+            Integer id = created.poll();
+            return id == null ? Constants.NON_EXISTENT_ID : id;
+        }
+    }
+}
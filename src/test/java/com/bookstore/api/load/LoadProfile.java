@@ -0,0 +1,42 @@
+package com.bookstore.api.load;
+
+import com.bookstore.api.config.Configuration;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record LoadProfile(double ratePerSecond, Duration duration, Duration warmup,
+                          Map<LoadOperation, Integer> weights, int maxInFlight) {
+
+    public LoadProfile {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + ratePerSecond);
+        }
+        if (weights.isEmpty() || weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Operation mix must contain a positive weight");
+        }
+        weights = Map.copyOf(weights);
+    }
+
+    public static LoadProfile fromConfiguration() {
+        return new LoadProfile(
+                Configuration.getLoadRate(),
+                Duration.ofSeconds(Configuration.getLoadDurationSeconds()),
+                Duration.ofSeconds(Configuration.getLoadWarmupSeconds()),
+                parseMix(Configuration.getLoadMix()),
+                Configuration.getLoadMaxInFlight());
+    }
+
+    // Format: GET_BOOK:60,ADD_BOOK:20,DELETE_BOOK:20
+    public static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + entry);
+            }
+            weights.put(LoadOperation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
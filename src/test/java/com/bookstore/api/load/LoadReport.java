@@ -0,0 +1,26 @@
+package com.bookstore.api.load;
+
+import com.bookstore.api.metrics.LatencyHistogram;
+import java.util.Map;
+
+public record LoadReport(double targetRatePerSecond, double achievedRatePerSecond, long measuredSeconds,
+                         long dropped, OperationStats total, Map<String, OperationStats> operations) {
+
+    public record OperationStats(long count, long errors, long status2xx, long status4xx, long status5xx,
+                                 double throughputPerSecond, double meanMs, double p50Ms, double p90Ms,
+                                 double p99Ms, double p999Ms, double maxMs, double serviceP99Ms) {
+
+        static OperationStats of(LatencyHistogram latency, LatencyHistogram serviceTime, long errors,
+                                 long[] statusClasses, double seconds) {
+            return new OperationStats(latency.getCount(), errors, statusClasses[2], statusClasses[4],
+                    statusClasses[5], seconds > 0 ? latency.getCount() / seconds : 0,
+                    latency.getMeanMicros() / 1000.0, latency.percentileMillis(50), latency.percentileMillis(90),
+                    latency.percentileMillis(99), latency.percentileMillis(99.9), latency.getMaxMicros() / 1000.0,
+                    serviceTime.percentileMillis(99));
+        }
+
+        public double errorRatio() {
+            return count == 0 ? 0 : (double) (errors + status5xx) / count;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.bookstore.api.load;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.metrics.LatencyHistogram;
+import com.bookstore.api.service.IBookStoreService;
+import com.bookstore.api.utils.TestDataGenerator;
+import io.restassured.response.Response;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class OpenLoopLoadGenerator {
+
+    private final IBookStoreService service;
+    private final LoadProfile profile;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<LoadOperation, OperationRecorder> recorders = new EnumMap<>(LoadOperation.class);
+    private final LoadOperation.LoadContext context = new LoadOperation.LoadContext();
+    private final TestDataGenerator data = TestDataGenerator.seeded();
+    private final LongAdder dropped = new LongAdder();
+    // HttpClient 4 waits for a pooled connection inside a synchronized block, which pins a virtual thread to its
+    // carrier. Queueing here instead keeps waiting tasks unmounted, so responses can still be read on a small host.
+    private final Semaphore connections = new Semaphore(Configuration.getHttpMaxPerRoute(), true);
+
+    public OpenLoopLoadGenerator(IBookStoreService service, LoadProfile profile) {
+        this.service = service;
+        this.profile = profile;
+        this.operations = profile.weights().keySet().stream().sorted().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int running = 0;
+        for (int i = 0; i < operations.length; i++) {
+            running += profile.weights().get(operations[i]);
+            cumulativeWeights[i] = running;
+            recorders.put(operations[i], new OperationRecorder());
+        }
+    }
+
+    public LoadReport run() {
+        prime();
+        long intervalNanos = (long) (1_000_000_000L / profile.ratePerSecond());
+        long start = System.nanoTime();
+        long measureFrom = start + profile.warmup().toNanos();
+        long end = measureFrom + profile.duration().toNanos();
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        ApiLogger.log("🚀 Load run: " + profile.ratePerSecond() + " req/s for " + profile.duration().toSeconds()
+                + "s after " + profile.warmup().toSeconds() + "s warm-up, mix " + profile.weights());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                // Arrivals follow the schedule, not the responses: latency is measured from the intended start.
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                parkUntil(intendedStart);
+                LoadOperation operation = pick();
+                boolean measured = intendedStart >= measureFrom;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        dropped.increment();
+                        recorders.get(operation).recordError();
+                    }
+                    continue;
+                }
+                // Split on the scheduling thread: arrival i always gets the same payload.
+                TestDataGenerator taskData = data.split();
+                executor.execute(() -> {
+                    try {
+                        execute(operation, taskData, intendedStart, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return report((end - measureFrom) / 1_000_000_000.0);
+    }
+
+    // The first calls through RestAssured build Groovy metaclasses under a global lock, which takes seconds on a
+    // small host once hundreds of arrivals queue behind it. One call per operation up front keeps that out of the run.
+    private void prime() {
+        for (LoadOperation operation : operations) {
+            try {
+                operation.prepare(context, data.split()).send(service);
+            } catch (Exception e) {
+                // Only the side effect matters; the run itself reports errors.
+            }
+        }
+    }
+
+    private void execute(LoadOperation operation, TestDataGenerator taskData, long intendedStart, boolean measured) {
+        Response response = null;
+        long actualStart = 0;
+        try {
+            // Payload generation and the wait for a connection stay out of the service time.
+            LoadOperation.Request request = operation.prepare(context, taskData);
+            connections.acquireUninterruptibly();
+            try {
+                actualStart = System.nanoTime();
+                response = request.send(service);
+            } finally {
+                connections.release();
+            }
+        } catch (Exception e) {
+            // Counted as an error below; RestAssured also rethrows checked IO exceptions undeclared.
+        }
+        long done = System.nanoTime();
+        if (!measured) {
+            return;
+        }
+        OperationRecorder recorder = recorders.get(operation);
+        if (response == null) {
+            recorder.recordError();
+        } else {
+            recorder.record(done - intendedStart, done - actualStart, response.getStatusCode());
+        }
+    }
+
+    private LoadOperation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private LoadReport report(double seconds) {
+        OperationRecorder total = new OperationRecorder();
+        Map<String, LoadReport.OperationStats> stats = new LinkedHashMap<>();
+        recorders.forEach((operation, recorder) -> {
+            stats.put(operation.name(), recorder.stats(seconds));
+            total.add(recorder);
+        });
+        LoadReport.OperationStats totalStats = total.stats(seconds);
+        return new LoadReport(profile.ratePerSecond(), totalStats.throughputPerSecond(),
+                Math.round(seconds), dropped.sum(), totalStats, stats);
+    }
+
+    private static final class OperationRecorder {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+
+        void record(long latencyNanos, long serviceNanos, int status) {
+            latency.recordNanos(latencyNanos);
+            serviceTime.recordNanos(serviceNanos);
+            statusClasses.incrementAndGet(Math.min(5, Math.max(0, status / 100)));
+        }
+
+        void recordError() {
+            errors.increment();
+        }
+
+        void add(OperationRecorder other) {
+            latency.add(other.latency);
+            serviceTime.add(other.serviceTime);
+            errors.add(other.errors.sum());
+            for (int i = 0; i < statusClasses.length(); i++) {
+                statusClasses.addAndGet(i, other.statusClasses.get(i));
+            }
+        }
+
+        LoadReport.OperationStats stats(double seconds) {
+            long[] classes = new long[statusClasses.length()];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = statusClasses.get(i);
+            }
+            return LoadReport.OperationStats.of(latency, serviceTime, errors.sum(), classes, seconds);
+        }
+    }
+}
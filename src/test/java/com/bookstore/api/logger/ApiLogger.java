@@ -3,14 +3,57 @@ package com.bookstore.api.logger;
 import com.bookstore.api.model.Book;
 import com.bookstore.api.model.Author;
 import io.restassured.response.Response;
+import java.nio.charset.StandardCharsets;
 
 public class ApiLogger {
 
+    private static volatile LogLevel level = LogLevel.DEBUG;
+    private static volatile AsyncLogWriter writer;
+
     public static void log(String message) {
-        System.out.println(message);
+        log(LogLevel.INFO, message);
+    }
+
+    public static void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public static void log(LogLevel messageLevel, String message) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        AsyncLogWriter current = writer;
+        if (current != null) {
+            current.append(message);
+        } else {
+            System.out.println(message);
+        }
+    }
+
+    public static boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel.compareTo(level) >= 0;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    public static void start(AsyncLogWriter newWriter) {
+        writer = newWriter;
+    }
+
+    public static void stop() {
+        AsyncLogWriter current = writer;
+        writer = null;
+        if (current != null) {
+            current.close();
+        }
     }
 
     public static void logBook(Book book) {
+        if (!isEnabled(LogLevel.DEBUG)) {
+            return;
+        }
         String formatted = String.format(
                 """
                         📚 Book ID: %d
@@ -27,10 +70,13 @@ public class ApiLogger {
                 book.getPublishDate()
 
         );
-        log(formatted);
+        debug(formatted);
     }
 
     public static void logAuthor(Author author) {
+        if (!isEnabled(LogLevel.DEBUG)) {
+            return;
+        }
         String formatted = String.format(
                 """
                         👤 Author ID: %d
@@ -42,12 +88,23 @@ public class ApiLogger {
                 author.getFirstName(),
                 author.getLastName()
         );
-        log(formatted);
+        debug(formatted);
     }
 
     public static void logResponse(Response response) {
-        log(String.format("📡 HTTP Response - Status: %d\n   Body: %s",
-                response.getStatusCode(), truncate(response.getBody().asString(), 100)));
+        if (!isEnabled(LogLevel.DEBUG)) {
+            return;
+        }
+        debug(String.format("📡 HTTP Response - Status: %d\n   Body: %s",
+                response.getStatusCode(), truncate(bodyPrefix(response, 100), 100)));
+    }
+
+    // Decodes only the head of the already buffered body instead of copying the whole payload into a String.
+    private static String bodyPrefix(Response response, int maxChars) {
+        byte[] body = response.asByteArray();
+        int length = Math.min(body.length, maxChars * 4);
+        String prefix = new String(body, 0, length, StandardCharsets.UTF_8);
+        return length < body.length ? prefix + "..." : prefix;
     }
 
     private static String truncate(String text, int maxLength) {
@@ -0,0 +1,231 @@
+package com.bookstore.api.logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// Callers only enqueue; one writer thread batches lines to the console and a size-rotated, gzip-archived file.
+public class AsyncLogWriter implements AutoCloseable {
+
+    public enum OverflowPolicy { BLOCK, DROP }
+
+    private final BlockingQueue<String> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long maxFileBytes;
+    private final int maxArchives;
+    private final Path file;
+    private final PrintStream console;
+    private final LongAdder dropped = new LongAdder();
+    private final ExecutorService compressor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-log-compressor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Thread writer;
+    private FileChannel channel;
+    private long fileBytes;
+    private volatile boolean closed;
+
+    public AsyncLogWriter(Path file, PrintStream console, int capacity, OverflowPolicy overflowPolicy,
+                          int batchSize, long maxFileBytes, int maxArchives) {
+        this.file = file;
+        this.console = console;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.maxFileBytes = maxFileBytes;
+        this.maxArchives = maxArchives;
+        openFile();
+        this.writer = new Thread(this::drain, "api-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void append(String line) {
+        if (closed) {
+            console.println(line);
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(line)) {
+                dropped.increment();
+                return;
+            }
+        } else if (!put(line)) {
+            return;
+        }
+        // close() may have drained the queue for the last time between the check above and the enqueue.
+        if (closed && queue.remove(line)) {
+            console.println(line);
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Lines enqueued after the writer's last poll.
+        List<String> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        try {
+            if (writer.isAlive()) {
+                rest.forEach(console::println);
+            } else if (!rest.isEmpty()) {
+                write(rest);
+            }
+        } catch (IOException e) {
+            console.println("Error writing log batch: " + e.getMessage());
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            console.println("Error closing log file: " + e.getMessage());
+        }
+        compressor.shutdown();
+        try {
+            compressor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (getDropped() > 0) {
+            console.println("⚠️ Log writer dropped " + getDropped() + " lines (queue full)");
+        }
+    }
+
+    // Waits in slices, so a writer closed meanwhile can no longer leave the caller blocked on a full queue.
+    private boolean put(String line) {
+        try {
+            while (!queue.offer(line, 100, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    console.println(line);
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return false;
+        }
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                console.println("Error writing log batch: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<String> batch) throws IOException {
+        StringBuilder text = new StringBuilder(batch.size() * 64);
+        for (String line : batch) {
+            text.append(line).append(System.lineSeparator());
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        console.write(bytes, 0, bytes.length);
+        console.flush();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        fileBytes += bytes.length;
+        if (maxFileBytes > 0 && fileBytes >= maxFileBytes) {
+            rotate();
+        }
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        String name = file.getFileName().toString();
+        Path rotated = file.resolveSibling(name + "." + System.currentTimeMillis());
+        Files.move(file, rotated);
+        openFile();
+        compressor.execute(() -> compress(rotated));
+    }
+
+    private void compress(Path rotated) {
+        Path archive = rotated.resolveSibling(rotated.getFileName() + ".gz");
+        try (InputStream in = Files.newInputStream(rotated);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(archive))) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            console.println("Error compressing " + rotated + ": " + e.getMessage());
+            return;
+        }
+        try {
+            Files.delete(rotated);
+            pruneArchives();
+        } catch (IOException e) {
+            console.println("Error pruning log archives: " + e.getMessage());
+        }
+    }
+
+    private void pruneArchives() throws IOException {
+        String prefix = file.getFileName() + ".";
+        List<Path> archives;
+        try (Stream<Path> siblings = Files.list(file.toAbsolutePath().getParent())) {
+            archives = siblings
+                    .filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> path.getFileName().toString().endsWith(".gz"))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < archives.size() - maxArchives; i++) {
+            Files.deleteIfExists(archives.get(i));
+        }
+    }
+
+    private void openFile() {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            fileBytes = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open log file " + file, e);
+        }
+    }
+}
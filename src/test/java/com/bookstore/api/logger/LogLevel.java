@@ -0,0 +1,5 @@
+package com.bookstore.api.logger;
+
+public enum LogLevel {
+    DEBUG, INFO, WARN, ERROR
+}
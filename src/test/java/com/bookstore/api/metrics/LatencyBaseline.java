@@ -0,0 +1,274 @@
+package com.bookstore.api.metrics;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Latency histograms of the last K runs, per endpoint and per test, kept as sparse bucket counts. Every run carries
+// its scope (target and suite): a run is only compared with, and only evicts, runs of the same scope.
+// At suite end the current run is compared against the pooled baseline with a one-sided Mann-Whitney U test
+// computed directly on the buckets (equal buckets are ties), so it needs no raw samples.
+// File layout: magic, version, run count, then per run (epoch millis, UTF scope, series count,
+// per series (UTF key, bucket count, (short index, long count) per non-empty bucket)).
+public class LatencyBaseline {
+
+    private static final int MAGIC = 0x4C54424C;
+    private static final int VERSION = 2;
+    private static final String ENDPOINT_PREFIX = "endpoint ";
+    private static final String TEST_PREFIX = "test ";
+    private static LatencyBaseline shared;
+
+    private final Path file;
+    private final int keepRuns;
+    private final List<Run> runs = new ArrayList<>();
+    private final Map<String, LatencyHistogram> currentTests = new ConcurrentHashMap<>();
+    private volatile String scope = "";
+
+    public record Run(long epochMillis, String scope, Map<String, LatencyHistogram> series) {
+    }
+
+    public record Comparison(String series, int baselineRuns, LatencyHistogram baseline, LatencyHistogram current,
+                             double pValue, boolean regressed) {
+
+        public String describe() {
+            return String.format("p=%.2g | before (%d runs, n=%d): %s | after (n=%d): %s", pValue, baselineRuns,
+                    baseline.getCount(), percentiles(baseline), current.getCount(), percentiles(current));
+        }
+
+        private static String percentiles(LatencyHistogram histogram) {
+            return String.format("p50=%.2fms p90=%.2fms p99=%.2fms", histogram.percentileMillis(50),
+                    histogram.percentileMillis(90), histogram.percentileMillis(99));
+        }
+    }
+
+    public LatencyBaseline(Path file, int keepRuns) {
+        this.file = file;
+        this.keepRuns = keepRuns;
+        load();
+    }
+
+    public static synchronized LatencyBaseline shared() {
+        if (shared == null) {
+            shared = new LatencyBaseline(Path.of(Configuration.getLatencyBaselineFile()),
+                    Configuration.getLatencyBaselineRuns());
+        }
+        return shared;
+    }
+
+    public void beginRun(String scope) {
+        this.scope = scope;
+        currentTests.clear();
+    }
+
+    // All requests of one test go into a single series, whatever endpoints they hit. Cache hits say nothing
+    // about the server and are left out.
+    public void recordTest(String testKey, Map<String, LatencyHistogram> histograms) {
+        LatencyHistogram test = currentTests.computeIfAbsent(testKey, key -> new LatencyHistogram());
+        histograms.forEach((endpoint, histogram) -> {
+            if (!LatencyRegistry.isCacheHit(endpoint)) {
+                test.add(histogram);
+            }
+        });
+    }
+
+    // Stored runs in the current scope.
+    public synchronized int size() {
+        return (int) runs.stream().filter(run -> run.scope().equals(scope)).count();
+    }
+
+    public List<Comparison> compare(Map<String, LatencyHistogram> endpoints) {
+        int minSamples = Configuration.getLatencyBaselineMinSamples();
+        double alpha = Configuration.getLatencyBaselineAlpha();
+        double minShift = 1 + Configuration.getLatencyBaselineMinShiftPercent() / 100.0;
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : currentSeries(endpoints).entrySet()) {
+            LatencyHistogram current = entry.getValue();
+            int baselineRuns = runsWith(entry.getKey());
+            LatencyHistogram baseline = pooled(entry.getKey());
+            if (current.getCount() < minSamples || baseline.getCount() < minSamples) {
+                continue;
+            }
+            double pValue = pValueSlower(current, baseline);
+            // With thousands of samples tiny shifts are "significant"; also require a practical median shift.
+            boolean regressed = pValue < alpha
+                    && current.percentileMicros(50) >= baseline.percentileMicros(50) * minShift;
+            comparisons.add(new Comparison(entry.getKey(), baselineRuns, baseline, current, pValue, regressed));
+        }
+        return comparisons;
+    }
+
+    public void finishRun(Map<String, LatencyHistogram> endpoints) {
+        Map<String, LatencyHistogram> series = new LinkedHashMap<>();
+        currentSeries(endpoints).forEach((key, histogram) -> series.put(key, histogram.copy()));
+        synchronized (this) {
+            runs.add(new Run(System.currentTimeMillis(), scope, series));
+            trim(scope);
+        }
+        save();
+    }
+
+    // One-sided p-value for "current is stochastically slower than baseline". U counts, over all pairs, how often
+    // the current sample is larger (ties count half); normal approximation with tie correction.
+    static double pValueSlower(LatencyHistogram current, LatencyHistogram baseline) {
+        double n1 = current.getCount();
+        double n2 = baseline.getCount();
+        double n = n1 + n2;
+        double u = 0;
+        double baselineBelow = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < LatencyHistogram.bucketCount(); i++) {
+            long a = current.countAt(i);
+            long b = baseline.countAt(i);
+            if (a == 0 && b == 0) {
+                continue;
+            }
+            u += a * (baselineBelow + b / 2.0);
+            baselineBelow += b;
+            double t = a + b;
+            tieTerm += t * t * t - t;
+        }
+        double variance = n1 * n2 / 12.0 * ((n + 1) - tieTerm / (n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - n1 * n2 / 2.0) / Math.sqrt(variance);
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    // Chebyshev approximation, fractional error below 1.2e-7.
+    private static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2 - r;
+    }
+
+    private Map<String, LatencyHistogram> currentSeries(Map<String, LatencyHistogram> endpoints) {
+        Map<String, LatencyHistogram> series = new TreeMap<>();
+        endpoints.forEach((endpoint, histogram) -> {
+            if (!LatencyRegistry.isCacheHit(endpoint)) {
+                series.put(ENDPOINT_PREFIX + endpoint, histogram);
+            }
+        });
+        currentTests.forEach((test, histogram) -> series.put(TEST_PREFIX + test, histogram));
+        return series;
+    }
+
+    private synchronized int runsWith(String key) {
+        return (int) runs.stream().filter(run -> run.scope().equals(scope) && run.series().containsKey(key)).count();
+    }
+
+    private synchronized LatencyHistogram pooled(String key) {
+        LatencyHistogram pooled = new LatencyHistogram();
+        for (Run run : runs) {
+            LatencyHistogram histogram = run.scope().equals(scope) ? run.series().get(key) : null;
+            if (histogram != null) {
+                pooled.add(histogram);
+            }
+        }
+        return pooled;
+    }
+
+    // Keeps the newest keepRuns runs of one scope; runs are stored oldest first.
+    private void trim(String runScope) {
+        long excess = runs.stream().filter(run -> run.scope().equals(runScope)).count() - keepRuns;
+        for (Iterator<Run> iterator = runs.iterator(); excess > 0 && iterator.hasNext(); ) {
+            if (iterator.next().scope().equals(runScope)) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+
+    // Written to a sibling temp file and moved into place so an interrupted run never leaves a torn store.
+    private synchronized void save() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(runs.size());
+                for (Run run : runs) {
+                    out.writeLong(run.epochMillis());
+                    out.writeUTF(run.scope());
+                    out.writeInt(run.series().size());
+                    for (Map.Entry<String, LatencyHistogram> series : run.series().entrySet()) {
+                        out.writeUTF(series.getKey());
+                        writeBuckets(out, series.getValue());
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            ApiLogger.log("⚠️ Could not save latency baseline: " + e.getMessage());
+        }
+    }
+
+    private static void writeBuckets(DataOutputStream out, LatencyHistogram histogram) throws IOException {
+        int nonEmpty = 0;
+        for (int i = 0; i < LatencyHistogram.bucketCount(); i++) {
+            if (histogram.countAt(i) != 0) {
+                nonEmpty++;
+            }
+        }
+        out.writeInt(nonEmpty);
+        for (int i = 0; i < LatencyHistogram.bucketCount(); i++) {
+            long count = histogram.countAt(i);
+            if (count != 0) {
+                out.writeShort(i);
+                out.writeLong(count);
+            }
+        }
+    }
+
+    private void load() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                ApiLogger.log("⚠️ Ignoring latency baseline with unknown format: " + file);
+                return;
+            }
+            int runCount = in.readInt();
+            for (int r = 0; r < runCount; r++) {
+                long epochMillis = in.readLong();
+                String runScope = in.readUTF();
+                int seriesCount = in.readInt();
+                Map<String, LatencyHistogram> series = new LinkedHashMap<>();
+                for (int s = 0; s < seriesCount; s++) {
+                    String key = in.readUTF();
+                    LatencyHistogram histogram = new LatencyHistogram();
+                    int buckets = in.readInt();
+                    for (int b = 0; b < buckets; b++) {
+                        histogram.addBucket(in.readUnsignedShort(), in.readLong());
+                    }
+                    series.put(key, histogram);
+                }
+                runs.add(new Run(epochMillis, runScope, series));
+            }
+            runs.stream().map(Run::scope).distinct().toList().forEach(this::trim);
+        } catch (NoSuchFileException e) {
+            // First run: nothing to compare against yet.
+        } catch (IOException | IndexOutOfBoundsException e) {
+            runs.clear();
+            ApiLogger.log("⚠️ Could not read latency baseline: " + e.getMessage());
+        }
+    }
+}
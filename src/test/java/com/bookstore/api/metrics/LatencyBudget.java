@@ -0,0 +1,27 @@
+package com.bookstore.api.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Enforced by TestExecutionListener over the requests a test made, e.g. "GET /api/v1/Books/{id}".
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(LatencyBudget.List.class)
+public @interface LatencyBudget {
+    String endpoint();
+
+    double percentile() default 95;
+
+    long maxMillis();
+
+    int minSamples() default 1;
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface List {
+        LatencyBudget[] value();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookstore.api.metrics;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class LatencyBudgets {
+
+    public static List<String> violations(Method method, Map<String, LatencyHistogram> histograms) {
+        List<String> violations = new ArrayList<>();
+        for (LatencyBudget budget : method.getAnnotationsByType(LatencyBudget.class)) {
+            String violation = check(budget.endpoint(), budget.percentile(), budget.maxMillis(), budget.minSamples(),
+                    histograms);
+            if (violation != null) {
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+
+    public static void assertBudget(String endpoint, double percentile, long maxMillis, int minSamples) {
+        String violation = check(endpoint, percentile, maxMillis, minSamples, LatencyRegistry.currentTest());
+        if (violation != null) {
+            throw new AssertionError(violation);
+        }
+    }
+
+    // Cache hits count as calls made but are never measured against the budget: when the client cache answered
+    // them, there is nothing from the server to check.
+    private static String check(String endpoint, double percentile, long maxMillis, int minSamples,
+                                Map<String, LatencyHistogram> histograms) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        long samples = count(histogram);
+        if (samples < minSamples) {
+            long hits = count(histograms.get(LatencyRegistry.cacheHitKey(endpoint)));
+            if (samples + hits >= minSamples) {
+                return null;
+            }
+            return String.format("Latency budget for %s needs %d samples, got %d", endpoint, minSamples, samples + hits);
+        }
+        double actual = histogram.percentileMillis(percentile);
+        if (actual >= maxMillis) {
+            return String.format("Latency budget exceeded for %s: p%s = %.2f ms (budget < %d ms over %d samples)",
+                    endpoint, formatPercentile(percentile), actual, maxMillis, samples);
+        }
+        return null;
+    }
+
+    private static long count(LatencyHistogram histogram) {
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,126 @@
+package com.bookstore.api.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    // Log-linear buckets over microseconds: exact below 128 µs, then 64 sub-buckets per power of two (~1.5% error).
+    private static final int LINEAR_LIMIT = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKETS = LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return total.sum();
+    }
+
+    public double getMeanMicros() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    public long percentileMicros(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(valueOf(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    public double percentileMillis(double percentile) {
+        return percentileMicros(percentile) / 1000.0;
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        total.add(other.total.sum());
+        sum.add(other.sum.sum());
+        max.accumulate(other.max.get());
+    }
+
+    // Bucket-level access for LatencyBaseline, which stores and compares histograms rather than raw samples.
+    static int bucketCount() {
+        return BUCKETS;
+    }
+
+    long countAt(int index) {
+        return counts.get(index);
+    }
+
+    void addBucket(int index, long count) {
+        long value = valueOf(index);
+        counts.addAndGet(index, count);
+        total.add(count);
+        sum.add(value * count);
+        max.accumulate(value);
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    public String summary() {
+        return String.format("n=%d p50=%.2fms p90=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                getCount(), percentileMillis(50), percentileMillis(90), percentileMillis(95),
+                percentileMillis(99), getMaxMicros() / 1000.0);
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int shift = 57 - Long.numberOfLeadingZeros(micros);
+        if (shift > MAX_SHIFT) {
+            return BUCKETS - 1;
+        }
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) ((micros >>> shift) - SUB_BUCKETS);
+    }
+
+    static long valueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        // Upper edge of the bucket so percentiles never under-report.
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.bookstore.api.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LatencyRegistry {
+    // Responses served from the client-side cache; a series of their own, kept out of baselines.
+    private static final String CACHE_HIT_SUFFIX = " (cache)";
+
+    private static final Map<String, LatencyHistogram> suite = new ConcurrentHashMap<>();
+    // Inheritable so requests fanned out to virtual threads from a test still count towards that test.
+    private static final InheritableThreadLocal<Map<String, LatencyHistogram>> currentTest = new InheritableThreadLocal<>();
+
+    public static void record(String endpoint, long nanos) {
+        histogram(suite, endpoint).recordNanos(nanos);
+        Map<String, LatencyHistogram> test = currentTest.get();
+        if (test != null) {
+            histogram(test, endpoint).recordNanos(nanos);
+        }
+    }
+
+    public static String cacheHitKey(String endpoint) {
+        return endpoint + CACHE_HIT_SUFFIX;
+    }
+
+    public static boolean isCacheHit(String endpoint) {
+        return endpoint.endsWith(CACHE_HIT_SUFFIX);
+    }
+
+    public static void beginTest() {
+        currentTest.set(new ConcurrentHashMap<>());
+    }
+
+    public static Map<String, LatencyHistogram> endTest() {
+        Map<String, LatencyHistogram> test = currentTest.get();
+        currentTest.remove();
+        return test == null ? Map.of() : test;
+    }
+
+    public static Map<String, LatencyHistogram> currentTest() {
+        Map<String, LatencyHistogram> test = currentTest.get();
+        return test == null ? Map.of() : test;
+    }
+
+    public static Map<String, LatencyHistogram> suite() {
+        return suite;
+    }
+
+    public static void resetSuite() {
+        suite.clear();
+    }
+
+    public static String format(Map<String, LatencyHistogram> histograms) {
+        StringBuilder table = new StringBuilder();
+        new TreeMap<>(histograms).forEach((endpoint, histogram) ->
+                table.append(String.format("%-40s %s%n", endpoint, histogram.summary())));
+        return table.toString();
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String endpoint) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        return histogram != null ? histogram : histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram());
+    }
+}
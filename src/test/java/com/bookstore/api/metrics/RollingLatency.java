@@ -0,0 +1,45 @@
+package com.bookstore.api.metrics;
+
+import java.util.Arrays;
+
+// Percentiles over the last N samples of one endpoint. Recomputed every few samples rather than per read,
+// since the hot path only needs a slightly stale threshold.
+public class RollingLatency {
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] window;
+    private final double[] percentiles;
+    private final long[] cached;
+    private int next;
+    private int size;
+    private long recorded;
+
+    public RollingLatency(int windowSize, double... percentiles) {
+        this.window = new long[windowSize];
+        this.percentiles = percentiles.clone();
+        this.cached = new long[percentiles.length];
+    }
+
+    public synchronized void recordMicros(long micros) {
+        window[next] = micros;
+        next = (next + 1) % window.length;
+        size = Math.min(size + 1, window.length);
+        if (++recorded % RECOMPUTE_EVERY == 0 || size < RECOMPUTE_EVERY) {
+            long[] sorted = Arrays.copyOf(window, size);
+            Arrays.sort(sorted);
+            for (int i = 0; i < percentiles.length; i++) {
+                int rank = (int) Math.ceil(percentiles[i] / 100.0 * size);
+                cached[i] = sorted[Math.max(0, rank - 1)];
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // Index into the percentiles given to the constructor.
+    public synchronized long percentileMicros(int index) {
+        return cached[index];
+    }
+}
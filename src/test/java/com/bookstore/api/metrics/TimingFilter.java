@@ -0,0 +1,71 @@
+package com.bookstore.api.metrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+public class TimingFilter implements OrderedFilter {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/-?\\d+(?=/|$)");
+    private static final Map<String, Map<String, String>> endpointKeys = new ConcurrentHashMap<>();
+    private static final AtomicLong firstRequestNanos = new AtomicLong();
+    private static final ThreadLocal<Boolean> untimed = new ThreadLocal<>();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        firstRequestNanos.compareAndSet(0, start);
+        if (untimed.get() != null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            LatencyRegistry.record(endpointKey(requestSpec.getMethod(), requestSpec.getUserDefinedPath()),
+                    System.nanoTime() - start);
+        }
+    }
+
+    // Just outside body buffering and the cassette filter: measures the exchange itself (live or replayed),
+    // not reporting overhead.
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    // For callers that record one sample per logical call themselves, e.g. hedged GETs with two attempts.
+    public static <T> T untimed(Supplier<T> call) {
+        untimed.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            untimed.remove();
+        }
+    }
+
+    public static void resetFirstRequest() {
+        firstRequestNanos.set(0);
+    }
+
+    // System.nanoTime() at the start of the first request since the last reset, 0 if none yet.
+    public static long getFirstRequestNanos() {
+        return firstRequestNanos.get();
+    }
+
+    public static String endpointKey(String method, String path) {
+        Map<String, String> byPath = endpointKeys.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        String key = byPath.get(path);
+        if (key == null) {
+            key = method + " " + ID_SEGMENT.matcher(path).replaceAll("/{id}");
+            byPath.put(path, key);
+        }
+        return key;
+    }
+}
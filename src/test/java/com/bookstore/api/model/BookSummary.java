@@ -0,0 +1,16 @@
+package com.bookstore.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Projection for checks that only need id/title; the parser skips the other fields without binding them.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BookSummary {
+    private int id;
+    private String title;
+}
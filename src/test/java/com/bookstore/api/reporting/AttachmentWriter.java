@@ -0,0 +1,87 @@
+package com.bookstore.api.reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// The attachment entry is added to the running test synchronously; the file itself is written off-thread,
+// and identical content is written once and referenced from every test that produced it.
+public class AttachmentWriter {
+    private static final Map<String, String> sourcesByHash = new ConcurrentHashMap<>();
+    private static final LongAdder written = new LongAdder();
+    private static final LongAdder deduplicated = new LongAdder();
+    private static ExecutorService executor = newExecutor();
+
+    public static void attach(String name, String type, String extension, String content, boolean dedupe) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return;
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (dedupe) {
+            String hash = sha256(bytes);
+            String existing = sourcesByHash.get(hash);
+            if (existing != null) {
+                deduplicated.increment();
+                lifecycle.updateTestCase(result -> result.getAttachments()
+                        .add(new Attachment().setName(name).setType(type).setSource(existing)));
+                return;
+            }
+            String source = lifecycle.prepareAttachment(name, type, extension);
+            sourcesByHash.put(hash, source);
+            write(lifecycle, source, bytes);
+        } else {
+            write(lifecycle, lifecycle.prepareAttachment(name, type, extension), bytes);
+        }
+    }
+
+    public static synchronized void flush() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = newExecutor();
+    }
+
+    public static long getWritten() {
+        return written.sum();
+    }
+
+    public static long getDeduplicated() {
+        return deduplicated.sum();
+    }
+
+    private static synchronized void write(AllureLifecycle lifecycle, String source, byte[] bytes) {
+        written.increment();
+        executor.execute(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(bytes)));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static ExecutorService newExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "allure-attachment-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.bookstore.api.reporting;
+
+import com.bookstore.api.config.Configuration;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Replaces AllureRestAssured in the ApiBase chain; what gets attached is decided by report.capture.* settings.
+public class CaptureFilter implements OrderedFilter {
+    private static final int MAX_BUFFERED_EXCHANGES = 50;
+    private static final InheritableThreadLocal<Deque<Exchange>> pending = new InheritableThreadLocal<>();
+    private static final LongAdder captured = new LongAdder();
+    private static final LongAdder skipped = new LongAdder();
+    private static final LongAdder truncated = new LongAdder();
+
+    private final CapturePolicy policy = CapturePolicy.valueOf(Configuration.getCapturePolicy().toUpperCase());
+    private final double samplePercent = Configuration.getCaptureSamplePercent();
+    private final int maxBodyBytes = Configuration.getCaptureMaxBodyBytes();
+    private final boolean dedupe = Configuration.isCaptureDedupe();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        switch (policy) {
+            case ALWAYS -> attach(exchange(requestSpec, response), dedupe);
+            case SAMPLED -> {
+                if (ThreadLocalRandom.current().nextDouble(100) < samplePercent) {
+                    attach(exchange(requestSpec, response), dedupe);
+                } else {
+                    skipped.increment();
+                }
+            }
+            case ON_FAILURE -> buffer(exchange(requestSpec, response));
+            case NONE -> skipped.increment();
+        }
+        return response;
+    }
+
+    // Wraps the timing filter so capture cost is not counted as request latency.
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    public static void beginTest() {
+        pending.set(new ArrayDeque<>());
+    }
+
+    // Called once the test outcome is known: buffered exchanges are attached only for failures.
+    public static void endTest(boolean failed) {
+        Deque<Exchange> exchanges = pending.get();
+        pending.remove();
+        if (exchanges == null) {
+            return;
+        }
+        List<Exchange> snapshot;
+        synchronized (exchanges) {
+            snapshot = List.copyOf(exchanges);
+        }
+        if (failed) {
+            snapshot.forEach(exchange -> attach(exchange, Configuration.isCaptureDedupe()));
+        } else {
+            skipped.add(snapshot.size());
+        }
+    }
+
+    public static String summary() {
+        return String.format("captured=%d skipped=%d truncated=%d files=%d deduplicated=%d",
+                captured.sum(), skipped.sum(), truncated.sum(), AttachmentWriter.getWritten(),
+                AttachmentWriter.getDeduplicated());
+    }
+
+    private static void buffer(Exchange exchange) {
+        Deque<Exchange> exchanges = pending.get();
+        if (exchanges == null) {
+            skipped.increment();
+            return;
+        }
+        synchronized (exchanges) {
+            if (exchanges.size() == MAX_BUFFERED_EXCHANGES) {
+                exchanges.removeFirst();
+                skipped.increment();
+            }
+            exchanges.addLast(exchange);
+        }
+    }
+
+    private static void attach(Exchange exchange, boolean dedupe) {
+        captured.increment();
+        AttachmentWriter.attach("Request: " + exchange.requestLine(), "text/plain", ".txt", exchange.request(), dedupe);
+        AttachmentWriter.attach("Response: " + exchange.status() + " " + exchange.requestLine(), "application/json",
+                ".json", exchange.responseBody(), dedupe);
+    }
+
+    private Exchange exchange(FilterableRequestSpecification requestSpec, Response response) {
+        String requestLine = requestSpec.getMethod() + " " + requestSpec.getURI();
+        String request = requestLine + "\n" + requestSpec.getHeaders() + "\n\n"
+                + truncate(Objects.toString(requestSpec.getBody(), "").getBytes(StandardCharsets.UTF_8));
+        return new Exchange(requestLine, request, response.getStatusCode(), truncate(response.asByteArray()));
+    }
+
+    private String truncate(byte[] body) {
+        if (maxBodyBytes <= 0 || body.length <= maxBodyBytes) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        truncated.increment();
+        return new String(body, 0, maxBodyBytes, StandardCharsets.UTF_8)
+                + "\n... [truncated " + (body.length - maxBodyBytes) + " of " + body.length + " bytes]";
+    }
+
+    private record Exchange(String requestLine, String request, int status, String responseBody) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.bookstore.api.reporting;
+
+public enum CapturePolicy {
+    ALWAYS, ON_FAILURE, SAMPLED, NONE
+}
@@ -0,0 +1,36 @@
+package com.bookstore.api.runner;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+// Child-first for the test package only: recompiled test classes are picked up on every run, while
+// services, the connection pool and the local server stay loaded (and warm) in the parent.
+class TestClassLoader extends URLClassLoader {
+    private final String reloadablePrefix;
+
+    TestClassLoader(URL[] urls, ClassLoader parent, String reloadablePackage) {
+        super(urls, parent);
+        this.reloadablePrefix = reloadablePackage + ".";
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(reloadablePrefix)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                try {
+                    loaded = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    loaded = super.loadClass(name, false);
+                }
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+}
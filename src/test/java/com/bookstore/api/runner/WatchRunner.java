@@ -0,0 +1,297 @@
+package com.bookstore.api.runner;
+
+import com.bookstore.api.base.HttpConnectionPool;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.metrics.TimingFilter;
+import com.bookstore.api.server.LocalBookStoreServer;
+import com.bookstore.api.utils.ApiTestConfig;
+import com.bookstore.api.utils.DurationAwareInterceptor;
+import com.bookstore.api.utils.ParallelSuiteConfigurer;
+import com.bookstore.api.utils.TestExecutionListener;
+import io.qameta.allure.testng.AllureTestNg;
+import org.testng.TestNG;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Long-lived runner: one JVM, one connection pool, one local server. Watches the test sources, recompiles
+// what changed and reruns the affected test classes in-process. Only classes in the tests package are
+// reloaded; changes anywhere else need a restart.
+//
+// Commands on stdin: <enter> rerun, a = all classes, c BookTests,AuthorTests = select classes,
+// g smoke,books = select groups, q = quit.
+public class WatchRunner {
+    private static final String TESTS_PACKAGE = "com.bookstore.api.tests";
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    private final Path sourceBase;
+    private final Path watchedRoot;
+    private final Path testsDir;
+    private final Path testClasses;
+    private final Path watchClasses;
+    private final Queue<String> commands = new ConcurrentLinkedQueue<>();
+    private final long jvmStartNanos;
+    private Set<String> selectedClasses;
+    private String groups;
+    private int runs;
+
+    public WatchRunner(Path sourceBase, Path testClasses, Path watchClasses) {
+        this.sourceBase = sourceBase;
+        this.watchedRoot = sourceBase.resolve("com/bookstore/api");
+        this.testsDir = sourceBase.resolve(TESTS_PACKAGE.replace('.', '/'));
+        this.testClasses = testClasses;
+        this.watchClasses = watchClasses;
+        this.jvmStartNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(
+                ManagementFactory.getRuntimeMXBean().getUptime());
+        this.selectedClasses = parseList(Configuration.getWatchClasses());
+        this.groups = Configuration.getWatchGroups();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        new WatchRunner(Path.of("src/test/java"), Path.of("target/test-classes"), Path.of("target/watch-classes"))
+                .start();
+    }
+
+    public void start() throws IOException, InterruptedException {
+        Thread stdin = new Thread(this::readCommands, "watch-stdin");
+        stdin.setDaemon(true);
+        stdin.start();
+
+        run(selection(), "initial run", jvmStartNanos, true);
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            registerAll(watcher, watchedRoot);
+            ApiLogger.log("👀 Watching " + watchedRoot + " (enter = rerun, a = all, c <classes>, g <groups>, q = quit)");
+            while (true) {
+                String command = commands.poll();
+                if (command != null) {
+                    if (!handle(command)) {
+                        break;
+                    }
+                    continue;
+                }
+                WatchKey key = watcher.poll(200, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    continue;
+                }
+                long trigger = System.nanoTime();
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(watcher, key, changed);
+                // Editors write in bursts (temp file, rename, touch): settle before compiling.
+                WatchKey more;
+                while ((more = watcher.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(watcher, more, changed);
+                }
+                onChange(changed, trigger);
+            }
+        } finally {
+            LocalBookStoreServer.stopShared();
+            HttpConnectionPool.shared().shutdown();
+        }
+    }
+
+    private void onChange(Set<Path> changed, long trigger) {
+        List<Path> sources = changed.stream()
+                .filter(path -> path.toString().endsWith(".java") && Files.exists(path))
+                .toList();
+        if (sources.isEmpty()) {
+            return;
+        }
+        List<Path> outsideTests = sources.stream().filter(path -> !path.startsWith(testsDir)).toList();
+        if (!outsideTests.isEmpty()) {
+            ApiLogger.log("⚠️ Changed outside the tests package (restart to pick up): " + outsideTests);
+        }
+        List<Path> tests = sources.stream().filter(path -> path.startsWith(testsDir)).toList();
+        if (tests.isEmpty() || !compile(tests)) {
+            return;
+        }
+        Set<String> affected = tests.stream()
+                .map(WatchRunner::className)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        run(affected, "changed " + affected, trigger, false);
+    }
+
+    private boolean handle(String command) {
+        String trimmed = command.trim();
+        long trigger = System.nanoTime();
+        if (trimmed.equals("q")) {
+            return false;
+        }
+        if (trimmed.equals("a")) {
+            selectedClasses = Set.of();
+        } else if (trimmed.startsWith("c ")) {
+            selectedClasses = parseList(trimmed.substring(2));
+        } else if (trimmed.startsWith("g ")) {
+            groups = trimmed.substring(2).trim();
+        } else if (!trimmed.isEmpty()) {
+            ApiLogger.log("❓ Unknown command: " + trimmed);
+            return true;
+        }
+        run(selection(), "rerun", trigger, false);
+        return true;
+    }
+
+    private void run(Set<String> classNames, String reason, long triggerNanos, boolean cold) {
+        runs++;
+        TimingFilter.resetFirstRequest();
+        long start = System.nanoTime();
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (TestClassLoader loader = new TestClassLoader(
+                new URL[]{watchClasses.toUri().toURL(), testClasses.toUri().toURL()},
+                WatchRunner.class.getClassLoader(), TESTS_PACKAGE)) {
+            List<Class<?>> classes = new ArrayList<>();
+            for (String name : classNames) {
+                classes.add(loader.loadClass(name));
+            }
+            Thread.currentThread().setContextClassLoader(loader);
+
+            TestNG testng = new TestNG(false);
+            testng.setUseDefaultListeners(false);
+            testng.setTestClasses(classes.toArray(Class[]::new));
+            if (!groups.isBlank()) {
+                testng.setGroups(groups);
+            }
+            testng.addListener(new ParallelSuiteConfigurer());
+            testng.addListener(new ApiTestConfig());
+            testng.addListener(new TestExecutionListener());
+            testng.addListener(new DurationAwareInterceptor());
+            testng.addListener(new AllureTestNg());
+            testng.run();
+
+            long firstRequest = TimingFilter.getFirstRequestNanos();
+            ApiLogger.log(String.format("🔁 Run #%d (%s, %s): %s in %.2fs | time to first request %s (%s)",
+                    runs, reason, cold ? "cold" : "warm", testng.hasFailure() ? "FAILED" : "passed",
+                    (System.nanoTime() - start) / 1e9,
+                    firstRequest == 0 ? "n/a" : String.format("%.0fms", (firstRequest - triggerNanos) / 1e6),
+                    cold ? "since JVM start" : "since trigger"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            ApiLogger.log("⚠️ Test class not found: " + e.getMessage());
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+    private boolean compile(List<Path> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            ApiLogger.log("⚠️ No system Java compiler (running on a JRE?); cannot recompile " + sources);
+            return false;
+        }
+        long start = System.nanoTime();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Files.createDirectories(watchClasses);
+            String classpath = String.join(File.pathSeparator, watchClasses.toString(), testClasses.toString(),
+                    System.getProperty("java.class.path"));
+            List<String> options = List.of("-d", watchClasses.toString(), "-classpath", classpath,
+                    "-sourcepath", sourceBase.toString(), "-implicit:none", "-proc:full");
+            boolean ok = compiler.getTask(null, files, diagnostics, options, null,
+                    files.getJavaFileObjectsFromPaths(sources)).call();
+            if (!ok) {
+                ApiLogger.log("❌ Compilation failed:\n" + diagnostics.getDiagnostics().stream()
+                        .map(Object::toString)
+                        .collect(Collectors.joining("\n")));
+                return false;
+            }
+            ApiLogger.log(String.format("🔨 Compiled %d file(s) in %.0fms", sources.size(),
+                    (System.nanoTime() - start) / 1e6));
+            return true;
+        } catch (IOException e) {
+            ApiLogger.log("⚠️ Compilation failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Set<String> selection() {
+        if (!selectedClasses.isEmpty()) {
+            return selectedClasses.stream()
+                    .map(name -> name.contains(".") ? name : TESTS_PACKAGE + "." + name)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+        try (Stream<Path> files = Files.list(testsDir)) {
+            return files.filter(path -> path.toString().endsWith(".java"))
+                    .map(WatchRunner::className)
+                    .sorted()
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readCommands() {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(System.in))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                commands.add(line);
+            }
+        } catch (IOException e) {
+            // No console: file changes still trigger runs.
+        }
+    }
+
+    private static void collect(WatchService watcher, WatchKey key, Set<Path> changed) {
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                registerAll(watcher, path);
+            }
+            changed.add(path);
+        }
+        key.reset();
+    }
+
+    private static void registerAll(WatchService watcher, Path root) {
+        try (Stream<Path> dirs = Files.walk(root)) {
+            for (Path dir : dirs.filter(Files::isDirectory).toList()) {
+                dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String className(Path source) {
+        String file = source.getFileName().toString();
+        return TESTS_PACKAGE + "." + file.substring(0, file.length() - ".java".length());
+    }
+
+    private static Set<String> parseList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
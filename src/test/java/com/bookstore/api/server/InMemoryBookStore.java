@@ -0,0 +1,90 @@
+package com.bookstore.api.server;
+
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.utils.Constants;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class InMemoryBookStore {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ConcurrentNavigableMap<Integer, Book> books = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Integer, Author> authors = new ConcurrentSkipListMap<>();
+
+    public InMemoryBookStore() {
+        seed();
+    }
+
+    public Collection<Book> getBooks() {
+        return books.values();
+    }
+
+    public Book getBook(int id) {
+        return books.get(id);
+    }
+
+    public Book putBook(Book book) {
+        books.put(book.getId(), book);
+        return book;
+    }
+
+    public Book replaceBook(int id, Book book) {
+        return books.replace(id, book) == null ? null : book;
+    }
+
+    public Book removeBook(int id) {
+        return books.remove(id);
+    }
+
+    public Collection<Author> getAuthors() {
+        return authors.values();
+    }
+
+    public Author getAuthor(int id) {
+        return authors.get(id);
+    }
+
+    public List<Author> getAuthorsByBookId(int idBook) {
+        List<Author> result = new ArrayList<>();
+        for (Author author : authors.values()) {
+            if (author.getIdBook() == idBook) {
+                result.add(author);
+            }
+        }
+        return result;
+    }
+
+    public Author putAuthor(Author author) {
+        authors.put(author.getId(), author);
+        return author;
+    }
+
+    public Author replaceAuthor(int id, Author author) {
+        return authors.replace(id, author) == null ? null : author;
+    }
+
+    public Author removeAuthor(int id) {
+        return authors.remove(id);
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        int authorId = 1;
+        for (int id = 1; id <= Constants.SEEDED_BOOK_COUNT; id++) {
+            books.put(id, new Book(id, "Book " + id, id * 100,
+                    "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.\n",
+                    "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.\n".repeat(5),
+                    now.minusDays(id).format(DATE_FORMAT)));
+            for (int i = 0; i <= id % 3; i++, authorId++) {
+                authors.put(authorId, new Author(authorId, id, "First Name " + authorId, "Last Name " + authorId));
+            }
+        }
+    }
+}
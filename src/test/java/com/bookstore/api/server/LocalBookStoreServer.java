@@ -0,0 +1,306 @@
+package com.bookstore.api.server;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32C;
+
+public class LocalBookStoreServer {
+
+    private static final String AUTHORS_BY_BOOK = "/authors/books/";
+    private static LocalBookStoreServer shared;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final InMemoryBookStore store = new InMemoryBookStore();
+    private final String booksEndpoint;
+    private final String authorsEndpoint;
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public LocalBookStoreServer(String booksEndpoint, String authorsEndpoint, int port) {
+        this.booksEndpoint = booksEndpoint;
+        this.authorsEndpoint = authorsEndpoint;
+        this.port = port;
+    }
+
+    public static synchronized LocalBookStoreServer shared() {
+        if (shared == null) {
+            shared = new LocalBookStoreServer(Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint(),
+                    Configuration.getLocalPort());
+        }
+        shared.start();
+        return shared;
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start local bookstore server", e);
+        }
+        // Platform threads: client virtual threads pinned in blocking reads must not be able to starve the server
+        // of carriers, which deadlocks parallel runs on small machines.
+        executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("local-bookstore-", 0).daemon().factory());
+        server.setExecutor(executor);
+        server.createContext(booksEndpoint, exchange -> {
+            try (exchange) {
+                handleBooks(exchange);
+            }
+        });
+        server.createContext(authorsEndpoint, exchange -> {
+            try (exchange) {
+                handleAuthors(exchange);
+            }
+        });
+        server.start();
+        ApiLogger.log("🖥️ Local bookstore server listening on " + getBaseUrl());
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.close();
+        server = null;
+        ApiLogger.log("🖥️ Local bookstore server stopped");
+    }
+
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Local bookstore server is not running");
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public InMemoryBookStore getStore() {
+        return store;
+    }
+
+    private void handleBooks(HttpExchange exchange) throws IOException {
+        try {
+            String path = subPath(exchange, booksEndpoint);
+            String method = exchange.getRequestMethod();
+            if (path.isEmpty()) {
+                switch (method) {
+                    case "GET" -> sendList(exchange, store.getBooks());
+                    case "POST" -> {
+                        Book book = readBody(exchange, Book.class);
+                        if (book == null) {
+                            sendStatus(exchange, 400);
+                        } else {
+                            send(exchange, 200, store.putBook(book));
+                        }
+                    }
+                    default -> sendStatus(exchange, 405);
+                }
+                return;
+            }
+            Integer id = parseId(path);
+            if (id == null) {
+                sendStatus(exchange, 400);
+                return;
+            }
+            switch (method) {
+                case "GET" -> sendOrNotFound(exchange, store.getBook(id));
+                case "PUT" -> {
+                    Book book = readBody(exchange, Book.class);
+                    if (book == null) {
+                        sendStatus(exchange, 400);
+                    } else {
+                        sendOrNotFound(exchange, store.replaceBook(id, book));
+                    }
+                }
+                case "DELETE" -> sendStatus(exchange, store.removeBook(id) == null ? 404 : 200);
+                default -> sendStatus(exchange, 405);
+            }
+        } catch (RuntimeException e) {
+            ApiLogger.log("⚠️ Local server error: " + e.getMessage());
+            sendServerError(exchange);
+        }
+    }
+
+    private void handleAuthors(HttpExchange exchange) throws IOException {
+        try {
+            String path = subPath(exchange, authorsEndpoint);
+            String method = exchange.getRequestMethod();
+            if (path.isEmpty()) {
+                switch (method) {
+                    case "GET" -> sendList(exchange, store.getAuthors());
+                    case "POST" -> {
+                        Author author = readBody(exchange, Author.class);
+                        if (author == null || author.getIdBook() < 0) {
+                            sendStatus(exchange, 400);
+                        } else {
+                            send(exchange, 200, store.putAuthor(author));
+                        }
+                    }
+                    default -> sendStatus(exchange, 405);
+                }
+                return;
+            }
+            if (("/" + path).startsWith(AUTHORS_BY_BOOK)) {
+                Integer idBook = parseId(("/" + path).substring(AUTHORS_BY_BOOK.length()));
+                if (idBook == null) {
+                    sendStatus(exchange, 400);
+                } else if ("GET".equals(method)) {
+                    send(exchange, 200, store.getAuthorsByBookId(idBook));
+                } else {
+                    sendStatus(exchange, 405);
+                }
+                return;
+            }
+            Integer id = parseId(path);
+            if (id == null) {
+                sendStatus(exchange, 400);
+                return;
+            }
+            switch (method) {
+                case "GET" -> sendOrNotFound(exchange, store.getAuthor(id));
+                case "PUT" -> {
+                    Author author = readBody(exchange, Author.class);
+                    if (author == null || author.getIdBook() < 0) {
+                        sendStatus(exchange, 400);
+                    } else {
+                        sendOrNotFound(exchange, store.replaceAuthor(id, author));
+                    }
+                }
+                case "DELETE" -> sendStatus(exchange, store.removeAuthor(id) == null ? 404 : 200);
+                default -> sendStatus(exchange, 405);
+            }
+        } catch (RuntimeException e) {
+            ApiLogger.log("⚠️ Local server error: " + e.getMessage());
+            sendServerError(exchange);
+        }
+    }
+
+    private String subPath(HttpExchange exchange, String endpoint) {
+        String path = exchange.getRequestURI().getPath().substring(endpoint.length());
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private Integer parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private <T> T readBody(HttpExchange exchange, Class<T> type) {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readAllBytes();
+            return bytes.length == 0 ? null : mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // ?offset=&limit= returns one page plus X-Total-Count; without them the whole list, as the real API does.
+    private void sendList(HttpExchange exchange, Collection<?> values) throws IOException {
+        Map<String, String> query = query(exchange);
+        if (!query.containsKey("offset") && !query.containsKey("limit")) {
+            send(exchange, 200, values);
+            return;
+        }
+        Integer offset = parseId(query.getOrDefault("offset", "0"));
+        Integer limit = parseId(query.getOrDefault("limit", String.valueOf(Integer.MAX_VALUE)));
+        if (offset == null || limit == null || offset < 0 || limit <= 0) {
+            sendStatus(exchange, 400);
+            return;
+        }
+        List<?> page = values.stream().skip(offset).limit(limit).toList();
+        exchange.getResponseHeaders().set("X-Total-Count", String.valueOf(values.size()));
+        send(exchange, 200, page);
+    }
+
+    private Map<String, String> query(HttpExchange exchange) {
+        String raw = exchange.getRequestURI().getRawQuery();
+        Map<String, String> query = new HashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private void sendOrNotFound(HttpExchange exchange, Object value) throws IOException {
+        if (value == null) {
+            sendStatus(exchange, 404);
+        } else {
+            send(exchange, 200, value);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(value);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if ("GET".equals(exchange.getRequestMethod()) && status == 200) {
+            String etag = etag(bytes);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                sendStatus(exchange, 304);
+                return;
+            }
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String etag(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length) + "\"";
+    }
+
+    private void sendStatus(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    // Nothing can be sent once the headers are out; closing the exchange then cuts the body short.
+    private void sendServerError(HttpExchange exchange) throws IOException {
+        if (exchange.getResponseCode() == -1) {
+            sendStatus(exchange, 500);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import io.restassured.response.Response;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+public class AsyncBookStoreService implements IAsyncBookStoreService {
+
+    private final IBookStoreService service;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+
+    // More calls in flight than pooled connections per route would only queue virtual threads on the pool lease,
+    // which pins their carriers.
+    public AsyncBookStoreService(IBookStoreService service) {
+        this(service, Configuration.getHttpMaxPerRoute());
+    }
+
+    public AsyncBookStoreService(IBookStoreService service, int maxInFlight) {
+        this.service = service;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public CompletableFuture<Response> getAllBooks() {
+        return submit(service::getAllBooks);
+    }
+
+    @Override
+    public CompletableFuture<Response> getBookById(int bookId) {
+        return submit(() -> service.getBookById(bookId));
+    }
+
+    @Override
+    public CompletableFuture<Response> addBook(Book book) {
+        return submit(() -> service.addBook(book));
+    }
+
+    @Override
+    public CompletableFuture<Response> addBookWithEmptyBody() {
+        return submit(service::addBookWithEmptyBody);
+    }
+
+    @Override
+    public CompletableFuture<Response> updateBook(int bookId, Book book) {
+        return submit(() -> service.updateBook(bookId, book));
+    }
+
+    @Override
+    public CompletableFuture<Response> deleteBook(int bookId) {
+        return submit(() -> service.deleteBook(bookId));
+    }
+
+    @Override
+    public CompletableFuture<Response> getAllAuthors() {
+        return submit(service::getAllAuthors);
+    }
+
+    @Override
+    public CompletableFuture<Response> getAuthorById(int authorId) {
+        return submit(() -> service.getAuthorById(authorId));
+    }
+
+    @Override
+    public CompletableFuture<Response> addAuthor(Author author) {
+        return submit(() -> service.addAuthor(author));
+    }
+
+    @Override
+    public CompletableFuture<Response> addAuthorWithEmptyBody() {
+        return submit(service::addAuthorWithEmptyBody);
+    }
+
+    @Override
+    public CompletableFuture<Response> updateAuthor(int authorId, Author author) {
+        return submit(() -> service.updateAuthor(authorId, author));
+    }
+
+    @Override
+    public CompletableFuture<Response> deleteAuthor(int authorId) {
+        return submit(() -> service.deleteAuthor(authorId));
+    }
+
+    @Override
+    public CompletableFuture<Response> getAuthorsByBookId(int bookId) {
+        return submit(() -> service.getAuthorsByBookId(bookId));
+    }
+
+    @Override
+    public CompletableFuture<BookWithAuthors> getBookWithAuthors(int bookId) {
+        return Futures.both(getBookById(bookId), getAuthorsByBookId(bookId), BookWithAuthors::new);
+    }
+
+    @Override
+    public CompletableFuture<List<Response>> getBooksByIds(Collection<Integer> bookIds) {
+        return Futures.fanOut(bookIds, this::getBookById);
+    }
+
+    @Override
+    public CompletableFuture<List<Response>> getAuthorsByIds(Collection<Integer> authorIds) {
+        return Futures.fanOut(authorIds, this::getAuthorById);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private CompletableFuture<Response> submit(Supplier<Response> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            inFlight.acquireUninterruptibly();
+            try {
+                return call.get();
+            } finally {
+                inFlight.release();
+            }
+        }, executor);
+    }
+}
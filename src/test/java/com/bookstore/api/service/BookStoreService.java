@@ -2,52 +2,51 @@ package com.bookstore.api.service;
 
 import com.bookstore.api.base.ApiBase;
 import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.metrics.TimingFilter;
 import com.bookstore.api.model.Author;
 import com.bookstore.api.model.Book;
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import java.util.Map;
 
 public class BookStoreService extends ApiBase implements IBookStoreService {
 
     private final ApiConfiguration config;
+    private final HedgingPolicy hedging;
 
     public BookStoreService(ApiConfiguration config) {
         this.config = config;
-        RestAssured.filters(new AllureRestAssured());
+        this.hedging = Configuration.isHedgeEnabled() ? HedgingPolicy.shared() : null;
     }
 
     @Override
     public Response getAllBooks() {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .when()
-                .get(config.getBooksEndpoint());
+        return get(config.getBooksEndpoint());
+    }
+
+    @Override
+    public Response getBooksPage(int offset, int limit) {
+        return get(config.getBooksEndpoint(), Map.of("offset", offset, "limit", limit));
     }
 
     @Override
     public Response getBookById(int id) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .when()
-                .get(config.getBooksEndpoint() + "/" + id);
+        return get(config.getBooksEndpoint() + "/" + id);
     }
 
     @Override
     public Response addBook(Book book) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .contentType("application/json")
+        Response response = setup(config)
                 .body(book)
                 .when()
                 .post(config.getBooksEndpoint());
+        track(response, CreatedEntityRegistry.EntityType.BOOK, book.getId());
+        return response;
     }
 
     @Override
     public Response addBookWithEmptyBody() {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .contentType("application/json")
+        return setup(config)
                 .body("")
                 .when()
                 .post(config.getBooksEndpoint());
@@ -55,9 +54,7 @@ public class BookStoreService extends ApiBase implements IBookStoreService {
 
     @Override
     public Response updateBook(int id, Book book) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .contentType("application/json")
+        return setup(config)
                 .body(book)
                 .when()
                 .put(config.getBooksEndpoint() + "/" + id);
@@ -65,43 +62,41 @@ public class BookStoreService extends ApiBase implements IBookStoreService {
 
     @Override
     public Response deleteBook(int id) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
+        Response response = setup(config)
                 .when()
                 .delete(config.getBooksEndpoint() + "/" + id);
+        untrack(response, CreatedEntityRegistry.EntityType.BOOK, id);
+        return response;
     }
 
     @Override
     public Response getAllAuthors() {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .when()
-                .get(config.getAuthorsEndpoint());
+        return get(config.getAuthorsEndpoint());
+    }
+
+    @Override
+    public Response getAuthorsPage(int offset, int limit) {
+        return get(config.getAuthorsEndpoint(), Map.of("offset", offset, "limit", limit));
     }
 
     @Override
     public Response getAuthorById(int id) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .when()
-                .get(config.getAuthorsEndpoint() + "/" + id);
+        return get(config.getAuthorsEndpoint() + "/" + id);
     }
 
     @Override
     public Response addAuthor(Author author) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .contentType("application/json")
+        Response response = setup(config)
                 .body(author)
                 .when()
                 .post(config.getAuthorsEndpoint());
+        track(response, CreatedEntityRegistry.EntityType.AUTHOR, author.getId());
+        return response;
     }
 
     @Override
     public Response addAuthorWithEmptyBody() {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .contentType("application/json")
+        return setup(config)
                 .body("")
                 .when()
                 .post(config.getAuthorsEndpoint());
@@ -109,9 +104,7 @@ public class BookStoreService extends ApiBase implements IBookStoreService {
 
     @Override
     public Response updateAuthor(int id, Author author) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .contentType("application/json")
+        return setup(config)
                 .body(author)
                 .when()
                 .put(config.getAuthorsEndpoint() + "/" + id);
@@ -119,17 +112,41 @@ public class BookStoreService extends ApiBase implements IBookStoreService {
 
     @Override
     public Response deleteAuthor(int id) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
+        Response response = setup(config)
                 .when()
                 .delete(config.getAuthorsEndpoint() + "/" + id);
+        untrack(response, CreatedEntityRegistry.EntityType.AUTHOR, id);
+        return response;
     }
 
     @Override
     public Response getAuthorsByBookId(int idBook) {
-        return setup(config.getBaseUrl())
-                .filter(new AllureRestAssured())
-                .when()
-                .get(config.getAuthorsEndpoint() + "/authors/books/" + idBook);
+        return get(config.getAuthorsEndpoint() + "/authors/books/" + idBook);
+    }
+
+    // All GETs here are idempotent, so they may be hedged.
+    private Response get(String path) {
+        return get(path, Map.of());
+    }
+
+    private Response get(String path, Map<String, ?> queryParams) {
+        if (hedging == null) {
+            return setup(config).queryParams(queryParams).when().get(path);
+        }
+        return hedging.execute(TimingFilter.endpointKey("GET", path),
+                () -> setup(config).queryParams(queryParams).when().get(path));
+    }
+
+    private void track(Response response, CreatedEntityRegistry.EntityType type, int requestedId) {
+        if (response.getStatusCode() / 100 == 2) {
+            Integer createdId = response.asByteArray().length == 0 ? null : response.path("id");
+            CreatedEntityRegistry.created(config, type, createdId != null ? createdId : requestedId);
+        }
+    }
+
+    private void untrack(Response response, CreatedEntityRegistry.EntityType type, int id) {
+        if (response.getStatusCode() / 100 == 2 || response.getStatusCode() == 404) {
+            CreatedEntityRegistry.deleted(config, type, id);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BookStoreServiceFactory {
+    // One caching decorator per configuration, so test classes share cached reads.
+    private static final Map<ApiConfiguration, IBookStoreService> cachedServices = new ConcurrentHashMap<>();
+
+    public static IBookStoreService create(ApiConfiguration config) {
+        if (!Configuration.isCacheEnabled()) {
+            return new BookStoreService(config);
+        }
+        return cachedServices.computeIfAbsent(config, key -> new CachingBookStoreService(new BookStoreService(key), key,
+                new ResponseCache(Configuration.getCacheMaxEntries(),
+                        Duration.ofSeconds(Configuration.getCacheTtlSeconds()).toNanos())));
+    }
+}
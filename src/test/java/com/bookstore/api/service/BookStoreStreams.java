@@ -0,0 +1,100 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.base.ApiBase;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.model.BookSummary;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// List endpoints read element by element from the response body: only one element is bound at a time.
+// Requests go through the ApiBase streaming chain: timing and cassettes apply, but nothing buffers the body, and
+// the connection goes back to the pool when the stream reaches the end of the array or is closed.
+public class BookStoreStreams extends ApiBase {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final ApiConfiguration config;
+
+    public BookStoreStreams(ApiConfiguration config) {
+        this.config = config;
+    }
+
+    public Stream<Book> streamAllBooks() {
+        return stream(config.getBooksEndpoint(), Book.class);
+    }
+
+    public Stream<BookSummary> streamBookSummaries() {
+        return stream(config.getBooksEndpoint(), BookSummary.class);
+    }
+
+    public Stream<Author> streamAllAuthors() {
+        return stream(config.getAuthorsEndpoint(), Author.class);
+    }
+
+    public <T> Stream<T> stream(String path, Class<T> type) {
+        Response response = streamingSetup(config).when().get(path);
+        InputStream body = response.asInputStream();
+        if (response.getStatusCode() != 200) {
+            closeQuietly(body);
+            throw new IllegalStateException("GET " + path + " returned " + response.getStatusCode());
+        }
+        try {
+            JsonParser parser = mapper.getFactory().createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalStateException("GET " + path + " did not return a JSON array");
+            }
+            return StreamSupport.stream(new ArraySpliterator<T>(parser, mapper.readerFor(type)), false)
+                    .onClose(() -> closeQuietly(parser));
+        } catch (IOException e) {
+            closeQuietly(body);
+            throw new UncheckedIOException("Failed to read " + path, e);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // Nothing useful to do when closing a response stream fails.
+        }
+    }
+
+    private static final class ArraySpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final JsonParser parser;
+        private final ObjectReader reader;
+
+        ArraySpliterator(JsonParser parser, ObjectReader reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.parser = parser;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    parser.close();
+                    return false;
+                }
+                action.accept(reader.readValue(parser));
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to parse array element", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.bookstore.api.service;
+
+import io.restassured.response.Response;
+
+public record BookWithAuthors(Response book, Response authors) {
+}
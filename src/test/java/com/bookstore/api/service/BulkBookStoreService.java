@@ -0,0 +1,120 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Pipelines many single-item calls over the shared connection pool. At most `window` requests are in flight;
+// the input stream is only pulled when a slot frees up, so a lazily generated stream of 100k books never sits
+// in memory as requests. Failures are recorded per item and never abort the batch.
+public class BulkBookStoreService implements AutoCloseable {
+
+    private final IBookStoreService service;
+    private final int window;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BulkBookStoreService(IBookStoreService service) {
+        this(service, Configuration.getBulkWindow());
+    }
+
+    public BulkBookStoreService(IBookStoreService service, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Bulk window must be positive: " + window);
+        }
+        int maxPerRoute = Configuration.getHttpMaxPerRoute();
+        if (window > maxPerRoute) {
+            // The extra slots would only wait on the pool lease, pinning their virtual threads.
+            ApiLogger.log("⚠️ Bulk window " + window + " clamped to api.http.max.per.route=" + maxPerRoute);
+        }
+        this.service = service;
+        this.window = Math.min(window, maxPerRoute);
+    }
+
+    public BulkResult addBooks(Stream<Book> books) {
+        return run("addBooks", books, Book::getId, service::addBook);
+    }
+
+    public BulkResult updateBooks(Stream<Book> books) {
+        return run("updateBooks", books, Book::getId, book -> service.updateBook(book.getId(), book));
+    }
+
+    public BulkResult deleteBooks(IntStream bookIds) {
+        return run("deleteBooks", bookIds.boxed(), Integer::intValue, service::deleteBook);
+    }
+
+    public BulkResult addAuthors(Stream<Author> authors) {
+        return run("addAuthors", authors, Author::getId, service::addAuthor);
+    }
+
+    public BulkResult updateAuthors(Stream<Author> authors) {
+        return run("updateAuthors", authors, Author::getId, author -> service.updateAuthor(author.getId(), author));
+    }
+
+    public BulkResult deleteAuthors(IntStream authorIds) {
+        return run("deleteAuthors", authorIds.boxed(), Integer::intValue, service::deleteAuthor);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <T> BulkResult run(String operation, Stream<T> items, ToIntFunction<T> idOf, Function<T, Response> call) {
+        Semaphore slots = new Semaphore(window);
+        List<BulkResult.Item> results = Collections.synchronizedList(new ArrayList<>());
+        long start = System.nanoTime();
+        try (items) {
+            Iterator<T> iterator = items.iterator();
+            int index = 0;
+            while (true) {
+                // Backpressure: take the slot before pulling the next item.
+                slots.acquireUninterruptibly();
+                if (!iterator.hasNext()) {
+                    slots.release();
+                    break;
+                }
+                T item = iterator.next();
+                int itemIndex = index++;
+                int id = idOf.applyAsInt(item);
+                executor.execute(() -> {
+                    try {
+                        Response response = call.apply(item);
+                        // Drain the body so the slot never holds on to a pooled connection.
+                        response.asByteArray();
+                        results.add(new BulkResult.Item(itemIndex, id, response.getStatusCode(), null));
+                    } catch (Exception | AssertionError e) {
+                        // RestAssured rethrows checked IO exceptions (pool timeouts, resets) undeclared; the contract
+                        // and cassette filters fail with AssertionError.
+                        results.add(new BulkResult.Item(itemIndex, id, -1,
+                                e.getClass().getSimpleName() + ": " + e.getMessage()));
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+        // Wait for the tail of the window.
+        slots.acquireUninterruptibly(window);
+        slots.release(window);
+
+        List<BulkResult.Item> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingInt(BulkResult.Item::index));
+        BulkResult result = new BulkResult(operation, List.copyOf(ordered), System.nanoTime() - start);
+        ApiLogger.log("📦 Bulk " + result);
+        return result;
+    }
+}
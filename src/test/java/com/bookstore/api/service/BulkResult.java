@@ -0,0 +1,33 @@
+package com.bookstore.api.service;
+
+import java.util.List;
+
+// Outcome of one bulk call: every item in submission order, failed ones included.
+public record BulkResult(String operation, List<Item> items, long nanos) {
+
+    // status is -1 when the request never produced a response (error then holds the exception message).
+    public record Item(int index, int id, int status, String error) {
+
+        public boolean ok() {
+            return status / 100 == 2;
+        }
+    }
+
+    public int succeeded() {
+        return (int) items.stream().filter(Item::ok).count();
+    }
+
+    public List<Item> failures() {
+        return items.stream().filter(item -> !item.ok()).toList();
+    }
+
+    public double itemsPerSecond() {
+        return nanos == 0 ? 0 : items.size() * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d items, %d ok, %d failed in %.2fs (%.0f items/s)", operation, items.size(),
+                succeeded(), items.size() - succeeded(), nanos / 1e9, itemsPerSecond());
+    }
+}
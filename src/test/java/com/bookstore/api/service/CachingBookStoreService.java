@@ -0,0 +1,227 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.base.ApiBase;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.metrics.LatencyRegistry;
+import com.bookstore.api.metrics.TimingFilter;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Read-through cache for the idempotent reads; every mutation drops exactly the keys it can change.
+public class CachingBookStoreService extends ApiBase implements IBookStoreService {
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder revalidated = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+
+    private final IBookStoreService delegate;
+    private final ApiConfiguration config;
+    private final ResponseCache cache;
+
+    public CachingBookStoreService(IBookStoreService delegate, ApiConfiguration config, ResponseCache cache) {
+        this.delegate = delegate;
+        this.config = config;
+        this.cache = cache;
+    }
+
+    @Override
+    public Response getAllBooks() {
+        return cached(config.getBooksEndpoint(), delegate::getAllBooks);
+    }
+
+    // Pages are not cached: any book mutation would have to drop every page.
+    @Override
+    public Response getBooksPage(int offset, int limit) {
+        return delegate.getBooksPage(offset, limit);
+    }
+
+    @Override
+    public Response getBookById(int bookId) {
+        return cached(bookPath(bookId), () -> delegate.getBookById(bookId));
+    }
+
+    @Override
+    public Response addBook(Book book) {
+        Response response = delegate.addBook(book);
+        invalidate(config.getBooksEndpoint());
+        invalidate(bookPath(book.getId()));
+        return response;
+    }
+
+    @Override
+    public Response addBookWithEmptyBody() {
+        return delegate.addBookWithEmptyBody();
+    }
+
+    @Override
+    public Response updateBook(int bookId, Book book) {
+        Response response = delegate.updateBook(bookId, book);
+        invalidate(config.getBooksEndpoint());
+        invalidate(bookPath(bookId));
+        return response;
+    }
+
+    @Override
+    public Response deleteBook(int bookId) {
+        Response response = delegate.deleteBook(bookId);
+        invalidate(config.getBooksEndpoint());
+        invalidate(bookPath(bookId));
+        return response;
+    }
+
+    @Override
+    public Response getAllAuthors() {
+        return cached(config.getAuthorsEndpoint(), delegate::getAllAuthors);
+    }
+
+    @Override
+    public Response getAuthorsPage(int offset, int limit) {
+        return delegate.getAuthorsPage(offset, limit);
+    }
+
+    @Override
+    public Response getAuthorById(int authorId) {
+        return cached(authorPath(authorId), () -> delegate.getAuthorById(authorId));
+    }
+
+    @Override
+    public Response addAuthor(Author author) {
+        Response response = delegate.addAuthor(author);
+        invalidateAuthor(author.getId(), author.getIdBook());
+        return response;
+    }
+
+    @Override
+    public Response addAuthorWithEmptyBody() {
+        return delegate.addAuthorWithEmptyBody();
+    }
+
+    @Override
+    public Response updateAuthor(int authorId, Author author) {
+        Integer previousBookId = cachedAuthorBookId(authorId);
+        Response response = delegate.updateAuthor(authorId, author);
+        invalidateAuthor(authorId, author.getIdBook());
+        invalidateAuthorsByBook(previousBookId);
+        return response;
+    }
+
+    @Override
+    public Response deleteAuthor(int authorId) {
+        Integer previousBookId = cachedAuthorBookId(authorId);
+        Response response = delegate.deleteAuthor(authorId);
+        invalidate(config.getAuthorsEndpoint());
+        invalidate(authorPath(authorId));
+        invalidateAuthorsByBook(previousBookId);
+        return response;
+    }
+
+    @Override
+    public Response getAuthorsByBookId(int bookId) {
+        return cached(authorsByBookPath(bookId), () -> delegate.getAuthorsByBookId(bookId));
+    }
+
+    public static void resetStats() {
+        hits.reset();
+        misses.reset();
+        revalidated.reset();
+        invalidations.reset();
+    }
+
+    public static String summary() {
+        long total = hits.sum() + misses.sum();
+        return String.format("hits=%d misses=%d revalidated(304)=%d invalidations=%d hit ratio=%.1f%%",
+                hits.sum(), misses.sum(), revalidated.sum(), invalidations.sum(),
+                total == 0 ? 0.0 : 100.0 * hits.sum() / total);
+    }
+
+    private Response cached(String path, Supplier<Response> fetch) {
+        long start = System.nanoTime();
+        // Read before the lookup, so an invalidation during the fetch below is always noticed.
+        long version = cache.version(path);
+        ResponseCache.Entry entry = cache.get(path);
+        if (entry != null && entry.isFresh()) {
+            hits.increment();
+            Response response = entry.copy();
+            // Hits never reach the filter chain. They get a series of their own, so the endpoint's histogram,
+            // budgets and baseline keep measuring the server.
+            LatencyRegistry.record(LatencyRegistry.cacheHitKey(TimingFilter.endpointKey("GET", path)),
+                    System.nanoTime() - start);
+            return response;
+        }
+        if (entry != null && entry.isRevalidatable()) {
+            Response response = conditionalGet(path, entry);
+            if (response.getStatusCode() == 304) {
+                revalidated.increment();
+                cache.refreshIfUnchanged(path, version, entry);
+                return entry.copy();
+            }
+            misses.increment();
+            return store(path, version, response);
+        }
+        misses.increment();
+        return store(path, version, fetch.get());
+    }
+
+    private Response store(String path, long version, Response response) {
+        if (response.getStatusCode() == 200) {
+            cache.putIfUnchanged(path, version, response);
+        } else {
+            cache.invalidate(path);
+        }
+        return response;
+    }
+
+    private Response conditionalGet(String path, ResponseCache.Entry entry) {
+        RequestSpecification request = setup(config);
+        if (entry.etag() != null) {
+            request.header("If-None-Match", entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            request.header("If-Modified-Since", entry.lastModified());
+        }
+        return request.when().get(path);
+    }
+
+    private Integer cachedAuthorBookId(int authorId) {
+        ResponseCache.Entry entry = cache.get(authorPath(authorId));
+        return entry == null ? null : entry.copy().as(Author.class).getIdBook();
+    }
+
+    private void invalidateAuthor(int authorId, int bookId) {
+        invalidate(config.getAuthorsEndpoint());
+        invalidate(authorPath(authorId));
+        invalidate(authorsByBookPath(bookId));
+    }
+
+    // Without the author's previous book on hand, any per-book author list may be stale.
+    private void invalidateAuthorsByBook(Integer bookId) {
+        if (bookId != null) {
+            invalidate(authorsByBookPath(bookId));
+        } else {
+            invalidations.add(cache.invalidateIf(key -> key.startsWith(authorsByBookPath(""))));
+        }
+    }
+
+    private void invalidate(String path) {
+        if (cache.invalidate(path)) {
+            invalidations.increment();
+        }
+    }
+
+    private String bookPath(int bookId) {
+        return config.getBooksEndpoint() + "/" + bookId;
+    }
+
+    private String authorPath(int authorId) {
+        return config.getAuthorsEndpoint() + "/" + authorId;
+    }
+
+    private String authorsByBookPath(Object bookId) {
+        return config.getAuthorsEndpoint() + "/authors/books/" + bookId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.config.ApiConfiguration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every book/author created through BookStoreService that has not been deleted yet.
+public class CreatedEntityRegistry {
+
+    public enum EntityType { BOOK, AUTHOR }
+
+    public record CreatedEntity(ApiConfiguration config, EntityType type, int id) {
+    }
+
+    private static final Set<CreatedEntity> entities = ConcurrentHashMap.newKeySet();
+
+    public static void created(ApiConfiguration config, EntityType type, int id) {
+        entities.add(new CreatedEntity(config, type, id));
+    }
+
+    public static void deleted(ApiConfiguration config, EntityType type, int id) {
+        entities.remove(new CreatedEntity(config, type, id));
+    }
+
+    public static List<CreatedEntity> snapshot() {
+        return List.copyOf(entities);
+    }
+
+    public static int size() {
+        return entities.size();
+    }
+}
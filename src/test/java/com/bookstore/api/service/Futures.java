@@ -0,0 +1,36 @@
+package com.bookstore.api.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public final class Futures {
+
+    private Futures() {
+    }
+
+    public static <I, T> CompletableFuture<List<T>> fanOut(Collection<I> inputs, Function<I, CompletableFuture<T>> call) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(inputs.size());
+        for (I input : inputs) {
+            futures.add(call.apply(input));
+        }
+        return fanIn(futures);
+    }
+
+    public static <T> CompletableFuture<List<T>> fanIn(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    futures.forEach(future -> results.add(future.join()));
+                    return results;
+                });
+    }
+
+    public static <A, B, R> CompletableFuture<R> both(CompletableFuture<A> first, CompletableFuture<B> second,
+                                                      BiFunction<A, B, R> combiner) {
+        return first.thenCombine(second, combiner);
+    }
+}
@@ -0,0 +1,208 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.metrics.LatencyRegistry;
+import com.bookstore.api.metrics.RollingLatency;
+import com.bookstore.api.metrics.TimingFilter;
+import io.restassured.response.Response;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Hedged execution for idempotent GETs: if the first attempt is still running after the endpoint's rolling
+// hedge percentile, a second one is sent and the first response wins. The whole call is bounded by an adaptive
+// timeout derived from the rolling p99. Hedges are capped at a fraction of all calls so a slow server is not
+// handed double the load. Attempts are not timed by TimingFilter; the call as a whole is one latency sample.
+public class HedgingPolicy {
+    private static final int P_HEDGE = 0;
+    private static final int P99 = 1;
+    private static HedgingPolicy shared;
+    private static final LongAdder calls = new LongAdder();
+    private static final LongAdder hedged = new LongAdder();
+    private static final LongAdder hedgeWins = new LongAdder();
+    private static final LongAdder suppressed = new LongAdder();
+    private static final LongAdder timeouts = new LongAdder();
+
+    private final double hedgePercentile;
+    private final double maxHedgeRatio;
+    private final int minSamples;
+    private final long minDelayMicros;
+    private final double timeoutMultiplier;
+    private final long minTimeoutMicros;
+    private final long maxTimeoutMicros;
+    private final int windowSize;
+    private final Map<String, RollingLatency> latencies = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public HedgingPolicy(double hedgePercentile, double maxHedgeRatio, int minSamples, long minDelayMillis,
+                         double timeoutMultiplier, long minTimeoutMillis, long maxTimeoutMillis, int windowSize) {
+        this.hedgePercentile = hedgePercentile;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.minSamples = minSamples;
+        this.minDelayMicros = minDelayMillis * 1000;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.minTimeoutMicros = minTimeoutMillis * 1000;
+        this.maxTimeoutMicros = maxTimeoutMillis * 1000;
+        this.windowSize = windowSize;
+    }
+
+    public static synchronized HedgingPolicy shared() {
+        if (shared == null) {
+            shared = new HedgingPolicy(
+                    Configuration.getHedgePercentile(),
+                    Configuration.getHedgeMaxRatio(),
+                    Configuration.getHedgeMinSamples(),
+                    Configuration.getHedgeMinDelayMillis(),
+                    Configuration.getTimeoutMultiplier(),
+                    Configuration.getTimeoutMinMillis(),
+                    Configuration.getTimeoutMaxMillis(),
+                    Configuration.getHedgeWindow());
+        }
+        return shared;
+    }
+
+    public Response execute(String endpoint, Supplier<Response> request) {
+        long start = System.nanoTime();
+        try {
+            return executeHedged(endpoint, request, start);
+        } finally {
+            LatencyRegistry.record(endpoint, System.nanoTime() - start);
+        }
+    }
+
+    private Response executeHedged(String endpoint, Supplier<Response> request, long start) {
+        calls.increment();
+        RollingLatency latency = latencies.computeIfAbsent(endpoint,
+                key -> new RollingLatency(windowSize, hedgePercentile, 99));
+        boolean warm = latency.size() >= minSamples;
+        long timeoutMicros = warm
+                ? clamp((long) (latency.percentileMicros(P99) * timeoutMultiplier), minTimeoutMicros, maxTimeoutMicros)
+                : maxTimeoutMicros;
+
+        CompletableFuture<Response> primary = attempt(request, latency);
+        if (!warm) {
+            return awaitAlone(primary, timeoutMicros, endpoint);
+        }
+        long hedgeDelayMicros = Math.max(minDelayMicros, latency.percentileMicros(P_HEDGE));
+        try {
+            return primary.get(Math.min(hedgeDelayMicros, timeoutMicros), TimeUnit.MICROSECONDS);
+        } catch (TimeoutException e) {
+            // Primary is slow: hedge below.
+        } catch (InterruptedException | ExecutionException e) {
+            return awaitAlone(primary, 0, endpoint);
+        }
+        if (hedged.sum() + 1 > maxHedgeRatio * calls.sum()) {
+            suppressed.increment();
+            return awaitAlone(primary, remaining(start, timeoutMicros), endpoint);
+        }
+        hedged.increment();
+        CompletableFuture<Response> hedge = attempt(request, latency);
+        CompletableFuture<Response> first = firstSuccessful(primary, hedge);
+        Response response = null;
+        try {
+            response = await(first, remaining(start, timeoutMicros), endpoint);
+        } finally {
+            discardUnless(primary, response);
+            discardUnless(hedge, response);
+        }
+        if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+            hedgeWins.increment();
+        }
+        return response;
+    }
+
+    public static void resetStats() {
+        calls.reset();
+        hedged.reset();
+        hedgeWins.reset();
+        suppressed.reset();
+        timeouts.reset();
+    }
+
+    public static String summary() {
+        long fired = hedged.sum();
+        return String.format("calls=%d hedges fired=%d won=%d (%.1f%%) suppressed by cap=%d timeouts=%d",
+                calls.sum(), fired, hedgeWins.sum(), fired == 0 ? 0.0 : 100.0 * hedgeWins.sum() / fired,
+                suppressed.sum(), timeouts.sum());
+    }
+
+    private CompletableFuture<Response> attempt(Supplier<Response> request, RollingLatency latency) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            Response response = TimingFilter.untimed(request);
+            latency.recordMicros((System.nanoTime() - start) / 1000);
+            return response;
+        }, executor);
+    }
+
+    private Response awaitAlone(CompletableFuture<Response> primary, long timeoutMicros, String endpoint) {
+        Response response = null;
+        try {
+            response = await(primary, timeoutMicros, endpoint);
+            return response;
+        } finally {
+            discardUnless(primary, response);
+        }
+    }
+
+    // The attempt that lost (or every attempt, after a timeout) is read once it completes, so an unread body never
+    // keeps its pooled connection.
+    private static void discardUnless(CompletableFuture<Response> attempt, Response winner) {
+        attempt.thenAccept(response -> {
+            if (response != winner) {
+                response.asByteArray();
+            }
+        });
+    }
+
+    // Fails only when both attempts fail, with the primary's error.
+    private static CompletableFuture<Response> firstSuccessful(CompletableFuture<Response> primary,
+                                                               CompletableFuture<Response> hedge) {
+        CompletableFuture<Response> first = new CompletableFuture<>();
+        primary.whenComplete((response, error) -> {
+            if (error == null) {
+                first.complete(response);
+            } else {
+                hedge.whenComplete((hedgeResponse, hedgeError) -> {
+                    if (hedgeError == null) {
+                        first.complete(hedgeResponse);
+                    } else {
+                        first.completeExceptionally(error);
+                    }
+                });
+            }
+        });
+        hedge.thenAccept(first::complete);
+        return first;
+    }
+
+    private Response await(CompletableFuture<Response> future, long timeoutMicros, String endpoint) {
+        try {
+            return timeoutMicros <= 0 ? future.get() : future.get(timeoutMicros, TimeUnit.MICROSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new IllegalStateException(String.format("%s timed out after %.0fms (adaptive timeout)",
+                    endpoint, timeoutMicros / 1000.0));
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + endpoint, e);
+        }
+    }
+
+    private static long remaining(long startNanos, long timeoutMicros) {
+        return Math.max(1, timeoutMicros - (System.nanoTime() - startNanos) / 1000);
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,30 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import io.restassured.response.Response;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface IAsyncBookStoreService extends AutoCloseable {
+    CompletableFuture<Response> getAllBooks();
+    CompletableFuture<Response> getBookById(int bookId);
+    CompletableFuture<Response> addBook(Book book);
+    CompletableFuture<Response> addBookWithEmptyBody();
+    CompletableFuture<Response> updateBook(int bookId, Book book);
+    CompletableFuture<Response> deleteBook(int bookId);
+    CompletableFuture<Response> getAllAuthors();
+    CompletableFuture<Response> getAuthorById(int authorId);
+    CompletableFuture<Response> addAuthor(Author author);
+    CompletableFuture<Response> addAuthorWithEmptyBody();
+    CompletableFuture<Response> updateAuthor(int authorId, Author author);
+    CompletableFuture<Response> deleteAuthor(int authorId);
+    CompletableFuture<Response> getAuthorsByBookId(int bookId);
+    CompletableFuture<BookWithAuthors> getBookWithAuthors(int bookId);
+    CompletableFuture<List<Response>> getBooksByIds(Collection<Integer> bookIds);
+    CompletableFuture<List<Response>> getAuthorsByIds(Collection<Integer> authorIds);
+
+    @Override
+    void close();
+}
@@ -6,12 +6,14 @@ import io.restassured.response.Response;
 
 public interface IBookStoreService {
     Response getAllBooks();
+    Response getBooksPage(int offset, int limit);
     Response getBookById(int bookId);
     Response addBook(Book book);
     Response addBookWithEmptyBody();
     Response updateBook(int bookId, Book book);
     Response deleteBook(int bookId);
     Response getAllAuthors();
+    Response getAuthorsPage(int offset, int limit);
     Response getAuthorById(int authorId);
     Response addAuthor(Author author);
     Response addAuthorWithEmptyBody();
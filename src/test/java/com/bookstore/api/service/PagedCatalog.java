@@ -0,0 +1,41 @@
+package com.bookstore.api.service;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Whole-catalog traversal through the paged list endpoints; close the stream to stop outstanding prefetches.
+public class PagedCatalog {
+
+    private final IBookStoreService service;
+    private final int pageSize;
+    private final int prefetchDepth;
+
+    public PagedCatalog(IBookStoreService service) {
+        this(service, Configuration.getPageSize(), Configuration.getPagePrefetchDepth());
+    }
+
+    public PagedCatalog(IBookStoreService service, int pageSize, int prefetchDepth) {
+        this.service = service;
+        this.pageSize = pageSize;
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    public Stream<Book> books() {
+        return stream(new PagedIterator<>(service::getBooksPage, Book[].class, pageSize, prefetchDepth));
+    }
+
+    public Stream<Author> authors() {
+        return stream(new PagedIterator<>(service::getAuthorsPage, Author[].class, pageSize, prefetchDepth));
+    }
+
+    private static <T> Stream<T> stream(PagedIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+}
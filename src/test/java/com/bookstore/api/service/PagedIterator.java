@@ -0,0 +1,122 @@
+package com.bookstore.api.service;
+
+import io.restassured.response.Response;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+// Walks a list endpoint page by page while up to prefetchDepth further pages are already in flight, so
+// at most prefetchDepth + 1 pages are held in memory. A first response without X-Total-Count means the server
+// ignored paging and sent the whole list; that list is then iterated as the only page.
+public class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final BiFunction<Integer, Integer, Response> fetchPage;
+    private final Class<T[]> arrayType;
+    private final int pageSize;
+    private final int prefetchDepth;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+    private Iterator<T> current;
+    private int nextOffset;
+    private long total = -1;
+    private boolean paged;
+    private boolean exhausted;
+    private int pagesFetched;
+
+    public PagedIterator(BiFunction<Integer, Integer, Response> fetchPage, Class<T[]> arrayType, int pageSize,
+                         int prefetchDepth) {
+        if (pageSize <= 0 || prefetchDepth < 1) {
+            throw new IllegalArgumentException("Invalid page size " + pageSize + " or prefetch depth " + prefetchDepth);
+        }
+        this.fetchPage = fetchPage;
+        this.arrayType = arrayType;
+        this.pageSize = pageSize;
+        this.prefetchDepth = prefetchDepth;
+        this.current = firstPage().iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (inFlight.isEmpty()) {
+                return false;
+            }
+            List<T> page = inFlight.removeFirst().join();
+            pagesFetched++;
+            if (page.size() < pageSize) {
+                // Short page: the end, even if the total count moved while we were reading.
+                exhausted = true;
+                inFlight.clear();
+            }
+            current = page.iterator();
+            fill();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    public boolean isPaged() {
+        return paged;
+    }
+
+    public int getPagesFetched() {
+        return pagesFetched;
+    }
+
+    // Stops prefetching. Pages already requested finish in the background and are parsed and dropped, which is what
+    // hands their connections back to the pool; cancelling a CompletableFuture would not stop the request anyway.
+    @Override
+    public void close() {
+        exhausted = true;
+        inFlight.clear();
+        executor.shutdown();
+    }
+
+    private List<T> firstPage() {
+        Response response = fetchPage.apply(0, pageSize);
+        List<T> page = parse(response, 0);
+        pagesFetched = 1;
+        String totalHeader = response.getHeader(TOTAL_COUNT_HEADER);
+        paged = totalHeader != null;
+        if (!paged) {
+            exhausted = true;
+            return page;
+        }
+        total = Long.parseLong(totalHeader.trim());
+        nextOffset = page.size();
+        exhausted = page.size() < pageSize;
+        fill();
+        return page;
+    }
+
+    private void fill() {
+        while (!exhausted && inFlight.size() < prefetchDepth && nextOffset < total) {
+            int offset = nextOffset;
+            inFlight.addLast(CompletableFuture.supplyAsync(() -> parse(fetchPage.apply(offset, pageSize), offset),
+                    executor));
+            nextOffset += pageSize;
+        }
+    }
+
+    private List<T> parse(Response response, int offset) {
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Page at offset " + offset + " returned " + response.getStatusCode());
+        }
+        return Arrays.asList(response.as(arrayType));
+    }
+}
@@ -0,0 +1,103 @@
+package com.bookstore.api.service;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Bounded LRU map of GET responses. Entries past their TTL are kept so they can be revalidated with
+// If-None-Match / If-Modified-Since instead of being fetched again.
+public class ResponseCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+    // Invalidation counters striped by key: a read that raced an invalidation must not store what it fetched.
+    private final long[] versions = new long[64];
+
+    public ResponseCache(int maxEntries, long ttlNanos) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized long version(String key) {
+        return versions[stripe(key)];
+    }
+
+    // Stores the response only if the key has not been invalidated since version(key) was read; null otherwise.
+    public synchronized Entry putIfUnchanged(String key, long version, Response response) {
+        return versions[stripe(key)] == version ? put(key, response) : null;
+    }
+
+    public synchronized Entry put(String key, Response response) {
+        Entry entry = new Entry(new ResponseBuilder().clone(response).build(), response.getHeader("ETag"),
+                response.getHeader("Last-Modified"), System.nanoTime() + ttlNanos);
+        entries.put(key, entry);
+        return entry;
+    }
+
+    public synchronized Entry refreshIfUnchanged(String key, long version, Entry entry) {
+        if (versions[stripe(key)] != version) {
+            return null;
+        }
+        Entry refreshed = new Entry(entry.response, entry.etag, entry.lastModified, System.nanoTime() + ttlNanos);
+        entries.put(key, refreshed);
+        return refreshed;
+    }
+
+    public synchronized boolean invalidate(String key) {
+        versions[stripe(key)]++;
+        return entries.remove(key) != null;
+    }
+
+    // Keys being fetched are not in the map yet, so every stripe moves on.
+    public synchronized int invalidateIf(Predicate<String> keyMatcher) {
+        for (int i = 0; i < versions.length; i++) {
+            versions[i]++;
+        }
+        int removed = 0;
+        for (Iterator<String> keys = entries.keySet().iterator(); keys.hasNext(); ) {
+            if (keyMatcher.test(keys.next())) {
+                keys.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private int stripe(String key) {
+        return key.hashCode() & (versions.length - 1);
+    }
+
+    public record Entry(Response response, String etag, String lastModified, long expiresAtNanos) {
+
+        public boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+
+        public boolean isRevalidatable() {
+            return etag != null || lastModified != null;
+        }
+
+        // Every caller gets its own Response over the shared body bytes.
+        public Response copy() {
+            return new ResponseBuilder().clone(response).build();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.bookstore.api.soak;
+
+import com.bookstore.api.soak.SoakHistory.Op;
+import com.bookstore.api.soak.SoakHistory.OpType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Per-key check of every read against the mutations around it. A mutation Y supersedes X when X completed
+// before Y was invoked; a read may only return a value whose mutation was not superseded by another mutation
+// that completed before the read started. The superseding mutation classifies the violation:
+// the reader's own write -> read-your-write, a delete -> resurrected delete, anyone else's write -> lost update.
+public class SoakChecker {
+
+    public enum Anomaly { LOST_UPDATE, RESURRECTED_DELETE, READ_YOUR_WRITE, UNEXPLAINED_READ }
+
+    public record Violation(Anomaly anomaly, int key, String detail) {
+    }
+
+    public record Result(Map<Anomaly, Long> counts, List<Violation> examples) {
+
+        public long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final int maxExamples;
+
+    public SoakChecker(int maxExamples) {
+        this.maxExamples = maxExamples;
+    }
+
+    public Result check(List<Op> ops, long startNanos) {
+        Map<Anomaly, Long> counts = new HashMap<>();
+        List<Violation> examples = new ArrayList<>();
+        Map<Integer, List<Op>> byKey = ops.stream().collect(Collectors.groupingBy(Op::key));
+        for (Map.Entry<Integer, List<Op>> entry : byKey.entrySet()) {
+            checkKey(entry.getKey(), entry.getValue(), startNanos, counts, examples);
+        }
+        return new Result(counts, examples);
+    }
+
+    private void checkKey(int key, List<Op> ops, long startNanos, Map<Anomaly, Long> counts,
+                          List<Violation> examples) {
+        // Mutations that definitely happened, ordered by completion, with a running "latest invoke" so the
+        // superseding mutation for any read start is one binary search away.
+        Op[] applied = ops.stream()
+                .filter(op -> op.type() != OpType.READ && op.succeeded())
+                .sorted(Comparator.comparingLong(Op::completeNanos))
+                .toArray(Op[]::new);
+        long[] completes = Arrays.stream(applied).mapToLong(Op::completeNanos).toArray();
+        Op[] latestInvoked = new Op[applied.length];
+        for (int i = 0; i < applied.length; i++) {
+            latestInvoked[i] = i > 0 && latestInvoked[i - 1].invokeNanos() > applied[i].invokeNanos()
+                    ? latestInvoked[i - 1] : applied[i];
+        }
+        // Any attempted mutation can explain the value it wrote, even if its response was lost.
+        Map<Long, Op> writers = new HashMap<>();
+        List<Op> deletes = new ArrayList<>();
+        for (Op op : ops) {
+            if (op.type() == OpType.CREATE || op.type() == OpType.UPDATE) {
+                if (op.succeeded() || op.indeterminate()) {
+                    writers.put(op.value(), op);
+                }
+            } else if (op.type() == OpType.DELETE && (op.succeeded() || op.indeterminate())) {
+                deletes.add(op);
+            }
+        }
+
+        for (Op read : ops) {
+            if (read.type() != OpType.READ || !(read.succeeded() || read.status() == 404)) {
+                continue;
+            }
+            int index = lastCompletedBefore(completes, read.invokeNanos());
+            Op superseding = index < 0 ? null : latestInvoked[index];
+            if (read.value() == SoakHistory.ABSENT) {
+                // Absent is legal if the key never definitely existed yet, or some delete is not superseded.
+                boolean explained = superseding == null || superseding.type() == OpType.DELETE
+                        || deletes.stream().anyMatch(delete -> delete.completeNanos() >= superseding.invokeNanos()
+                        && delete.invokeNanos() < read.completeNanos());
+                if (!explained) {
+                    report(classify(read, superseding), key, read, superseding, null, startNanos, counts, examples);
+                }
+                continue;
+            }
+            Op writer = writers.get(read.value());
+            if (writer == null || writer.key() != key || writer.invokeNanos() > read.completeNanos()) {
+                report(Anomaly.UNEXPLAINED_READ, key, read, superseding, writer, startNanos, counts, examples);
+            } else if (superseding != null && superseding != writer
+                    && writer.completeNanos() < superseding.invokeNanos()) {
+                report(classify(read, superseding), key, read, superseding, writer, startNanos, counts, examples);
+            }
+        }
+    }
+
+    private static Anomaly classify(Op read, Op superseding) {
+        if (superseding.worker() == read.worker()) {
+            return Anomaly.READ_YOUR_WRITE;
+        }
+        return superseding.type() == OpType.DELETE && read.value() != SoakHistory.ABSENT
+                ? Anomaly.RESURRECTED_DELETE : Anomaly.LOST_UPDATE;
+    }
+
+    private static int lastCompletedBefore(long[] completes, long nanos) {
+        int low = 0;
+        int high = completes.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (completes[mid] < nanos) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private void report(Anomaly anomaly, int key, Op read, Op superseding, Op writer, long startNanos,
+                        Map<Anomaly, Long> counts, List<Violation> examples) {
+        counts.merge(anomaly, 1L, Long::sum);
+        if (examples.size() >= maxExamples) {
+            return;
+        }
+        String cause = superseding == null ? "no prior mutation"
+                : String.format("%s by worker %d at %s already completed", superseding.type(), superseding.worker(),
+                window(superseding, startNanos));
+        if (writer != null) {
+            cause += ", value came from " + writer.type() + " at " + window(writer, startNanos);
+        }
+        examples.add(new Violation(anomaly, key, String.format("read by worker %d at %s saw %s; %s",
+                read.worker(), window(read, startNanos), token(read.value()), cause)));
+    }
+
+    private static String window(Op op, long startNanos) {
+        return String.format("[%.3f..%.3fms]", (op.invokeNanos() - startNanos) / 1e6,
+                (op.completeNanos() - startNanos) / 1e6);
+    }
+
+    private static String token(long value) {
+        if (value == SoakHistory.ABSENT) {
+            return "nothing (404)";
+        }
+        if (value == SoakHistory.UNKNOWN) {
+            return "an unknown value";
+        }
+        return "write #" + (value & 0xffffffffL) + " of worker " + ((value >>> 32) - 1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.bookstore.api.soak;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// One append-only log per worker, so recording never contends; the checker merges them afterwards.
+public class SoakHistory {
+
+    public enum OpType { CREATE, UPDATE, DELETE, READ }
+
+    // Values are write tokens (worker << 32 | sequence); ABSENT means not found / deleted, UNKNOWN unparseable.
+    public static final long ABSENT = 0;
+    public static final long UNKNOWN = -1;
+
+    public record Op(int worker, OpType type, int key, long value, long invokeNanos, long completeNanos,
+                     int status) {
+
+        public boolean succeeded() {
+            return status / 100 == 2;
+        }
+
+        // Exceptions and 5xx leave the outcome of a mutation unknown: it may or may not have been applied.
+        public boolean indeterminate() {
+            return status <= 0 || status >= 500;
+        }
+    }
+
+    private final WorkerLog[] logs;
+
+    public SoakHistory(int workers) {
+        logs = new WorkerLog[workers];
+        for (int i = 0; i < workers; i++) {
+            logs[i] = new WorkerLog();
+        }
+    }
+
+    public WorkerLog worker(int worker) {
+        return logs[worker];
+    }
+
+    public List<Op> ops() {
+        List<Op> ops = new ArrayList<>();
+        for (int worker = 0; worker < logs.length; worker++) {
+            logs[worker].appendTo(worker, ops);
+        }
+        return ops;
+    }
+
+    public long size() {
+        return Arrays.stream(logs).mapToLong(log -> log.size).sum();
+    }
+
+    // Columnar primitive arrays: no per-op allocation while the soak is running.
+    public static final class WorkerLog {
+        private byte[] types = new byte[1024];
+        private int[] keys = new int[1024];
+        private long[] values = new long[1024];
+        private long[] invokes = new long[1024];
+        private long[] completes = new long[1024];
+        private short[] statuses = new short[1024];
+        private int size;
+
+        public void record(OpType type, int key, long value, long invokeNanos, long completeNanos, int status) {
+            if (size == types.length) {
+                int capacity = size * 2;
+                types = Arrays.copyOf(types, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+                invokes = Arrays.copyOf(invokes, capacity);
+                completes = Arrays.copyOf(completes, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+            types[size] = (byte) type.ordinal();
+            keys[size] = key;
+            values[size] = value;
+            invokes[size] = invokeNanos;
+            completes[size] = completeNanos;
+            statuses[size] = (short) status;
+            size++;
+        }
+
+        private void appendTo(int worker, List<Op> ops) {
+            OpType[] all = OpType.values();
+            for (int i = 0; i < size; i++) {
+                ops.add(new Op(worker, all[types[i]], keys[i], values[i], invokes[i], completes[i], statuses[i]));
+            }
+        }
+    }
+}
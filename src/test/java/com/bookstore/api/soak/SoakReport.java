@@ -0,0 +1,13 @@
+package com.bookstore.api.soak;
+
+import java.util.List;
+import java.util.Map;
+
+public record SoakReport(int workers, int keyspace, double seconds, long operations, double throughputPerSecond,
+                         Map<String, String> latency, Map<SoakChecker.Anomaly, Long> anomalies,
+                         List<SoakChecker.Violation> examples) {
+
+    public long violations() {
+        return anomalies.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bookstore.api.soak;
+
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.metrics.LatencyHistogram;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.service.IBookStoreService;
+import com.bookstore.api.soak.SoakHistory.OpType;
+import com.bookstore.api.utils.TestDataGenerator;
+import io.restassured.response.Response;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Closed-loop workers on virtual threads hammering a small shared keyspace with create/update/delete/read.
+// Every write carries a unique token in the title so reads can be traced back to the write they observed.
+public class SoakRunner {
+    private static final String TOKEN_PREFIX = "soak-";
+
+    private final IBookStoreService service;
+    private final int workers;
+    private final int[] keys;
+    private final Duration duration;
+    private final long seed;
+    private final Map<OpType, LatencyHistogram> latency = new EnumMap<>(OpType.class);
+
+    public SoakRunner(IBookStoreService service, int workers, int[] keys, Duration duration, long seed) {
+        this.service = service;
+        this.workers = workers;
+        this.keys = keys.clone();
+        this.duration = duration;
+        this.seed = seed;
+        for (OpType type : OpType.values()) {
+            latency.put(type, new LatencyHistogram());
+        }
+    }
+
+    public SoakReport run() {
+        ApiLogger.log("🧪 Soak run: " + workers + " workers on " + keys.length + " books for "
+                + duration.toSeconds() + "s");
+        SoakHistory history = new SoakHistory(workers);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        SplittableRandom root = new SplittableRandom(seed);
+        TestDataGenerator dataRoot = new TestDataGenerator(seed, TestDataGenerator.FieldSizes.fromConfiguration());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < workers; worker++) {
+                int id = worker;
+                SplittableRandom random = root.split();
+                TestDataGenerator data = dataRoot.split();
+                executor.execute(() -> work(id, random, data, history.worker(id), end));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        SoakChecker.Result result = new SoakChecker(20).check(history.ops(), start);
+        Map<String, String> latencies = new LinkedHashMap<>();
+        latency.forEach((type, histogram) -> latencies.put(type.name(), histogram.summary()));
+        return new SoakReport(workers, keys.length, seconds, history.size(), history.size() / seconds, latencies,
+                result.counts(), result.examples());
+    }
+
+    private void work(int worker, SplittableRandom random, TestDataGenerator data, SoakHistory.WorkerLog log,
+                      long end) {
+        long sequence = 0;
+        while (System.nanoTime() < end) {
+            int key = keys[random.nextInt(keys.length)];
+            int roll = random.nextInt(100);
+            OpType type = roll < 50 ? OpType.READ
+                    : roll < 75 ? OpType.UPDATE
+                    : roll < 90 ? OpType.CREATE
+                    : OpType.DELETE;
+            boolean write = type == OpType.CREATE || type == OpType.UPDATE;
+            long token = write ? ((long) (worker + 1) << 32) | ++sequence : 0;
+            long invoke = System.nanoTime();
+            int status;
+            long value = token;
+            try {
+                Response response = switch (type) {
+                    case CREATE -> service.addBook(book(data, key, token));
+                    case UPDATE -> service.updateBook(key, book(data, key, token));
+                    case DELETE -> service.deleteBook(key);
+                    case READ -> service.getBookById(key);
+                };
+                status = response.getStatusCode();
+                if (type == OpType.READ) {
+                    value = status == 200 ? parseToken(response.path("title")) : SoakHistory.ABSENT;
+                }
+            } catch (RuntimeException e) {
+                status = 0;
+            }
+            long complete = System.nanoTime();
+            log.record(type, key, value, invoke, complete, status);
+            latency.get(type).recordNanos(complete - invoke);
+        }
+    }
+
+    private static Book book(TestDataGenerator data, int key, long token) {
+        Book book = data.nextBook(key);
+        book.setTitle(TOKEN_PREFIX + Long.toHexString(token));
+        return book;
+    }
+
+    private static long parseToken(String title) {
+        if (title == null || !title.startsWith(TOKEN_PREFIX)) {
+            return SoakHistory.UNKNOWN;
+        }
+        try {
+            return Long.parseUnsignedLong(title.substring(TOKEN_PREFIX.length()), 16);
+        } catch (NumberFormatException e) {
+            return SoakHistory.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.logger.AsyncLogWriter;
+import org.testng.annotations.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.testng.Assert.assertEquals;
+
+public class AsyncLogWriterTests {
+    private static final int APPENDERS = 8;
+    private static final int LINES_PER_APPENDER = 2_000;
+
+    // Every line reaches the console exactly once, whether the writer, close() or the closed fallback prints it,
+    // and no appender stays blocked on the tiny queue after close().
+    @Test(groups = {"regression"}, timeOut = 60_000)
+    public void testNoLineIsLostWhenClosingUnderLoad() throws Exception {
+        Path dir = Files.createTempDirectory("async-log");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream console = new PrintStream(output, true, StandardCharsets.UTF_8);
+        AsyncLogWriter writer = new AsyncLogWriter(dir.resolve("test.log"), console, 1,
+                AsyncLogWriter.OverflowPolicy.BLOCK, 16, 0, 0);
+        CountDownLatch started = new CountDownLatch(APPENDERS);
+        try (ExecutorService appenders = Executors.newFixedThreadPool(APPENDERS)) {
+            for (int a = 0; a < APPENDERS; a++) {
+                int appender = a;
+                appenders.execute(() -> {
+                    started.countDown();
+                    for (int i = 0; i < LINES_PER_APPENDER; i++) {
+                        writer.append("line " + appender + "-" + i);
+                    }
+                });
+            }
+            started.await();
+            writer.close();
+        }
+
+        long lines = output.toString(StandardCharsets.UTF_8).lines().filter(line -> line.startsWith("line ")).count();
+        assertEquals(lines, (long) APPENDERS * LINES_PER_APPENDER, "Lines printed to the console");
+        deleteQuietly(dir);
+    }
+
+    private static void deleteQuietly(Path dir) throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+}
@@ -3,14 +3,21 @@ package com.bookstore.api.tests;
 import com.bookstore.api.base.ApiBase;
 import com.bookstore.api.config.ApiConfiguration;
 import com.bookstore.api.config.Configuration;
+import com.bookstore.api.integrity.IntegrityReport;
+import com.bookstore.api.integrity.ReferentialIntegrityVerifier;
 import com.bookstore.api.logger.ApiLogger;
 import com.bookstore.api.model.Author;
 import com.bookstore.api.model.Book;
-import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.service.AsyncBookStoreService;
+import com.bookstore.api.service.BookStoreServiceFactory;
+import com.bookstore.api.service.BookWithAuthors;
+import com.bookstore.api.service.IAsyncBookStoreService;
 import com.bookstore.api.service.IBookStoreService;
 import com.bookstore.api.utils.Constants;
-import com.github.javafaker.Faker;
+import com.bookstore.api.utils.IdAllocator;
+import com.bookstore.api.utils.TestDataFactory;
 import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
 import java.util.Arrays;
@@ -20,7 +27,7 @@ import static org.testng.Assert.*;
 
 public class AuthorTests extends ApiBase {
     private final IBookStoreService service;
-    private final Faker faker;
+    private final IAsyncBookStoreService asyncService;
 
     @Factory
     public static Object[] createInstances() {
@@ -28,12 +35,17 @@ public class AuthorTests extends ApiBase {
         String booksEndpoint = Configuration.getBooksEndpoint();
         String authorsEndpoint = Configuration.getAuthorsEndpoint();
         ApiConfiguration config = new ApiConfiguration(baseUrl, booksEndpoint, authorsEndpoint);
-        return new Object[]{new AuthorTests(new BookStoreService(config))};
+        return new Object[]{new AuthorTests(BookStoreServiceFactory.create(config))};
     }
 
     public AuthorTests(IBookStoreService service) {
         this.service = service;
-        this.faker = new Faker();
+        this.asyncService = new AsyncBookStoreService(service);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void closeAsyncService() {
+        asyncService.close();
     }
 
     @Test(groups = {"smoke", "authors", "regression"})
@@ -104,7 +116,7 @@ public class AuthorTests extends ApiBase {
 
     @Test(groups = {"regression", "authors"})
     public void testAddAuthor() {
-        Author newAuthor = new Author(0, Constants.VALID_BOOK_ID, faker.name().firstName(), faker.name().lastName());
+        Author newAuthor = TestDataFactory.newAuthor(IdAllocator.nextId(), Constants.VALID_BOOK_ID);
         Response response = service.addAuthor(newAuthor);
         Author createdAuthor = response.as(Author.class);
         ApiLogger.log("➕ Created author: ");
@@ -116,9 +128,9 @@ public class AuthorTests extends ApiBase {
 
     @Test(groups = {"regression", "authors"})
     public void testUpdateAuthor() {
-        Author newAuthor = new Author(Constants.NON_EXISTENT_ID, Constants.VALID_BOOK_ID, faker.name().firstName(), faker.name().lastName());
+        Author newAuthor = TestDataFactory.newAuthor(IdAllocator.nextId(), Constants.VALID_BOOK_ID);
         Response addResponse = service.addAuthor(newAuthor);
-        newAuthor.setLastName(faker.name().lastName());
+        newAuthor.setLastName(TestDataFactory.lastName());
         Response response = service.updateAuthor(newAuthor.getId(), newAuthor);
         Author updatedAuthor = response.as(Author.class);
         ApiLogger.log("✏️ Updated author: ");
@@ -131,7 +143,7 @@ public class AuthorTests extends ApiBase {
 
     @Test(groups = {"regression", "authors"})
     public void testDeleteAuthorAndVerify() {
-        Author newAuthor = new Author(Constants.NON_EXISTENT_ID, Constants.VALID_BOOK_ID, faker.name().firstName(), faker.name().lastName());
+        Author newAuthor = TestDataFactory.newAuthor(IdAllocator.nextId(), Constants.VALID_BOOK_ID);
         Response addResponse = service.addAuthor(newAuthor);
         Response deleteResponse = service.deleteAuthor(newAuthor.getId());
         ApiLogger.log("🗑️ Deleted author with ID: " + newAuthor.getId());
@@ -145,11 +157,12 @@ public class AuthorTests extends ApiBase {
     @Test(groups = {"regression", "authors"})
     public void testAuthorsByBookId() {
         int bookId = Constants.VALID_BOOK_ID;
-        Response bookResponse = service.getBookById(bookId);
+        BookWithAuthors result = asyncService.getBookWithAuthors(bookId).join();
+        Response bookResponse = result.book();
         Book book = bookResponse.as(Book.class);
         ApiLogger.logBook(book);
 
-        Response response = service.getAuthorsByBookId(bookId);
+        Response response = result.authors();
         List<Author> authors = Arrays.asList(response.as(Author[].class));
         authors.forEach(ApiLogger::logAuthor);
 
@@ -159,4 +172,24 @@ public class AuthorTests extends ApiBase {
         assertTrue(authors.stream().allMatch(author -> author.getIdBook() == bookId),
                 "All authors should have idBook " + bookId);
     }
-}
\ No newline at end of file
+
+    @Test(groups = {"regression", "authors"})
+    public void testReferentialIntegrityOfAllAuthors() {
+        ReferentialIntegrityVerifier verifier = ReferentialIntegrityVerifier.fetch(service,
+                Configuration.getIntegrityMaxAuthorsPerBook());
+        IntegrityReport report = verifier.verify();
+        // Other tests add and delete authors of VALID_BOOK_ID concurrently, so it is left out of the sample.
+        int[] sample = Arrays.stream(verifier.sampleBookIds(Configuration.getIntegritySampleSize() + 1,
+                        Configuration.getDataSeed()))
+                .filter(bookId -> bookId != Constants.VALID_BOOK_ID)
+                .limit(Configuration.getIntegritySampleSize())
+                .toArray();
+        List<String> mismatches = verifier.crossCheck(service, sample, Configuration.getIntegrityParallelism());
+        report.examples().forEach(example -> ApiLogger.log("   ⚠️ " + example));
+        mismatches.forEach(mismatch -> ApiLogger.log("   ⚠️ " + mismatch));
+
+        assertFalse(report.books() == 0 || report.authors() == 0, "Catalog should contain books and authors");
+        assertEquals(report.violations(), 0, "Referential integrity violations: " + report.examples());
+        assertTrue(mismatches.isEmpty(), "getAuthorsByBookId disagrees with the author list: " + mismatches);
+    }
+}
@@ -4,7 +4,7 @@ import com.bookstore.api.config.ApiConfiguration;
 import com.bookstore.api.config.Configuration;
 import com.bookstore.api.logger.ApiLogger;
 import com.bookstore.api.model.Author;
-import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.service.BookStoreServiceFactory;
 import com.bookstore.api.service.IBookStoreService;
 import com.bookstore.api.utils.Constants;
 import io.restassured.response.Response;
@@ -24,7 +24,7 @@ public class AuthorsEdgeCaseTests {
         String booksEndpoint = Configuration.getBooksEndpoint();
         String authorsEndpoint = Configuration.getAuthorsEndpoint();
         ApiConfiguration config = new ApiConfiguration(baseUrl, booksEndpoint, authorsEndpoint);
-        return new Object[]{new AuthorsEdgeCaseTests(new BookStoreService(config))};
+        return new Object[]{new AuthorsEdgeCaseTests(BookStoreServiceFactory.create(config))};
     }
 
     public AuthorsEdgeCaseTests(IBookStoreService service) {
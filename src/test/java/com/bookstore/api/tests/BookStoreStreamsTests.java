@@ -0,0 +1,60 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.base.HttpConnectionPool;
+import com.bookstore.api.cassette.CassetteFilter;
+import com.bookstore.api.cassette.CassetteMode;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.server.LocalBookStoreServer;
+import com.bookstore.api.service.BookStoreStreams;
+import com.bookstore.api.utils.Constants;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import static org.testng.Assert.*;
+
+// Runs against its own local server, so the pool statistics for that route belong to this test alone.
+public class BookStoreStreamsTests {
+    private LocalBookStoreServer server;
+    private BookStoreStreams streams;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() {
+        server = new LocalBookStoreServer(Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint(), 0);
+        server.start();
+        streams = new BookStoreStreams(new ApiConfiguration(server.getBaseUrl(), Configuration.getBooksEndpoint(),
+                Configuration.getAuthorsEndpoint()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testStreamedListIsNotBuffered() {
+        if (CassetteFilter.mode() != CassetteMode.OFF) {
+            throw new SkipException("Cassettes keep bodies in memory, cassette mode is " + CassetteFilter.mode());
+        }
+        try (Stream<Book> books = streams.streamAllBooks()) {
+            Iterator<Book> iterator = books.iterator();
+            assertTrue(iterator.hasNext(), "Stream should yield the first book");
+            assertEquals(iterator.next().getId(), 1, "First streamed book");
+            // Anything that read the whole body up front would already have handed the connection back.
+            assertEquals(leased(), 1, "Connection should stay leased while the rest of the body is unread");
+        }
+        assertEquals(leased(), 0, "Closing the stream should release the connection");
+
+        long count = streams.streamAllBooks().count();
+        assertEquals(count, Constants.SEEDED_BOOK_COUNT, "Every seeded book should be streamed");
+        assertEquals(leased(), 0, "Reading to the end of the array should release the connection");
+    }
+
+    private int leased() {
+        return HttpConnectionPool.shared().getRouteStats(server.getBaseUrl()).getLeased();
+    }
+}
@@ -3,22 +3,32 @@ package com.bookstore.api.tests;
 import com.bookstore.api.config.ApiConfiguration;
 import com.bookstore.api.config.Configuration;
 import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.metrics.LatencyBudget;
 import com.bookstore.api.model.Book;
-import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.model.BookSummary;
+import com.bookstore.api.service.BookStoreServiceFactory;
+import com.bookstore.api.service.BookStoreStreams;
+import com.bookstore.api.service.BulkBookStoreService;
+import com.bookstore.api.service.BulkResult;
 import com.bookstore.api.service.IBookStoreService;
+import com.bookstore.api.service.PagedCatalog;
 import com.bookstore.api.utils.Constants;
-import com.github.javafaker.Faker;
+import com.bookstore.api.utils.IdAllocator;
+import com.bookstore.api.utils.TestDataFactory;
+import com.bookstore.api.utils.TestUtils;
 import io.restassured.response.Response;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import static org.testng.Assert.*;
 
 public class BookTests {
     private final IBookStoreService service;
-    private final Faker faker;
+    private final BookStoreStreams streams;
 
     @Factory
     public static Object[] createInstances() {
@@ -26,15 +36,16 @@ public class BookTests {
         String booksEndpoint = Configuration.getBooksEndpoint();
         String authorsEndpoint = Configuration.getAuthorsEndpoint();
         ApiConfiguration config = new ApiConfiguration(baseUrl, booksEndpoint, authorsEndpoint);
-        return new Object[]{new BookTests(new BookStoreService(config))};
+        return new Object[]{new BookTests(BookStoreServiceFactory.create(config), new BookStoreStreams(config))};
     }
 
-    public BookTests(IBookStoreService service) {
+    public BookTests(IBookStoreService service, BookStoreStreams streams) {
         this.service = service;
-        this.faker = new Faker();
+        this.streams = streams;
     }
 
     @Test(groups = {"smoke", "books", "regression"})
+    @LatencyBudget(endpoint = "GET /api/v1/Books", percentile = 95, maxMillis = 5000)
     public void testListAllBooks() {
         Response response = service.getAllBooks();
         List<Book> books = Arrays.asList(response.as(Book[].class));
@@ -59,6 +70,7 @@ public class BookTests {
     }
 
     @Test(groups = {"smoke", "books"})
+    @LatencyBudget(endpoint = "GET /api/v1/Books/{id}", percentile = 95, maxMillis = 3000)
     public void testGetBookById() {
         int bookId = Constants.VALID_BOOK_ID;
         Response response = service.getBookById(bookId);
@@ -73,9 +85,7 @@ public class BookTests {
 
     @Test(groups = {"regression", "books"})
     public void testAddUpdateDeleteBook() {
-        Book newBook = new Book(0, faker.book().title(), faker.number().numberBetween(100, 500),
-                faker.lorem().sentence(), faker.lorem().paragraph(),
-                "2025-07-30T00:00:00");
+        Book newBook = TestDataFactory.newBook(IdAllocator.nextId());
         ApiLogger.log("➕ Adding book: ");
         ApiLogger.logBook(newBook);
         Response addResponse = service.addBook(newBook);
@@ -83,7 +93,7 @@ public class BookTests {
         ApiLogger.log(" Added book: ");
         ApiLogger.logBook(addedBook);
         assertEquals(addedBook,newBook);
-        newBook.setTitle(faker.book().title());
+        newBook.setTitle(TestDataFactory.bookTitle());
         ApiLogger.log("✏️ Updating book: ");
         ApiLogger.logBook(newBook);
         Response updateResponse = service.updateBook(newBook.getId(), newBook);
@@ -97,13 +107,11 @@ public class BookTests {
 
     @Test(groups = {"regression", "books"})
     public void testUpdateBookAndVerify() {
-        Book newBook = new Book(Constants.NON_EXISTENT_ID, faker.book().title(), faker.number().numberBetween(100, 500),
-                faker.lorem().sentence(), faker.lorem().paragraph(),
-                "2025-07-30T00:00:00");
+        Book newBook = TestDataFactory.newBook(IdAllocator.nextId());
         Response addResponse = service.addBook(newBook);
         Book addedBook = addResponse.as(Book.class);
         assertEquals(addedBook,newBook);
-        newBook.setTitle(faker.book().title());
+        newBook.setTitle(TestDataFactory.bookTitle());
         Response response = service.updateBook(newBook.getId(), newBook);
         Book updatedBook = response.as(Book.class);
         ApiLogger.log("✏️ Updated book: ");
@@ -116,13 +124,11 @@ public class BookTests {
 
     @Test(groups = {"regression", "books"})
     public void testDeleteBookAndVerify() {
-        Book newBook = new Book(13579, faker.book().title(), faker.number().numberBetween(100, 500),
-                faker.lorem().sentence(), faker.lorem().paragraph(),
-                "2025-07-30T00:00:00");
+        Book newBook = TestDataFactory.newBook(IdAllocator.nextId());
         Response addResponse = service.addBook(newBook);
         Response checkAddedBook = service.getBookById(newBook.getId());
         Book addedBook = checkAddedBook.as(Book.class);
-        assertEquals(addedBook.getId(), 13579);
+        assertEquals(addedBook.getId(), newBook.getId());
         Response deleteResponse = service.deleteBook(newBook.getId());
         ApiLogger.log("🗑️ Deleted book with ID: " + newBook.getId());
         assertEquals(addResponse.getStatusCode(), 200);
@@ -133,9 +139,7 @@ public class BookTests {
 
     @Test(groups = {"smoke", "books"})
     public void testAddBookWithFaker() {
-        Book newBook = new Book(0, faker.book().title(), faker.number().numberBetween(100, 500),
-                faker.lorem().sentence(), faker.lorem().paragraph(),
-                "2025-07-30T00:00:00");
+        Book newBook = TestDataFactory.newBook(IdAllocator.nextId());
         Response response = service.addBook(newBook);
         Book createdBook = response.as(Book.class);
         ApiLogger.log("➕ Created book: ");
@@ -175,4 +179,43 @@ public class BookTests {
                     "Books should be sorted by title in descending order");
         }
     }
-}
\ No newline at end of file
+
+    @Test(groups = {"regression", "books"})
+    public void testBooksStreamedInIdOrder() {
+        long totalBooks = TestUtils.assertSorted(streams.streamBookSummaries(),
+                Comparator.comparingInt(BookSummary::getId), "Books should be listed in ascending ID order");
+        ApiLogger.log("📊 Streamed books in ID order: " + totalBooks);
+
+        assertTrue(totalBooks > 1, "Should have at least two books to check ordering");
+    }
+
+    // Other tests add and delete books meanwhile, so a separate full-list read is no stable reference. Strictly
+    // ascending ids show no book was visited twice; the count shows the traversal went past the first pages.
+    @Test(groups = {"regression", "books"})
+    public void testBooksPagedTraversalVisitsEachBookOnce() {
+        int pageSize = 7;
+        long paged;
+        // Small pages with prefetch, so the traversal really spans many pages.
+        try (Stream<Book> books = new PagedCatalog(service, pageSize, 2).books()) {
+            paged = TestUtils.assertStrictlySorted(books, Comparator.comparingInt(Book::getId),
+                    "Paged books should come back once each, in ascending ID order");
+        }
+        ApiLogger.log("📊 Books traversed page by page: " + paged);
+
+        assertTrue(paged > 3L * pageSize, "Paged traversal should span several pages, got " + paged + " books");
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testBulkAddAndDeleteBooks() {
+        int[] ids = IntStream.range(0, 50).map(i -> IdAllocator.nextId()).toArray();
+        try (BulkBookStoreService bulk = new BulkBookStoreService(service)) {
+            BulkResult added = bulk.addBooks(Arrays.stream(ids).mapToObj(TestDataFactory::newBook));
+            BulkResult deleted = bulk.deleteBooks(Arrays.stream(ids));
+
+            assertEquals(added.items().size(), ids.length, "Every book should have a result");
+            assertEquals(added.items().get(0).id(), ids[0], "Results should be in submission order");
+            assertTrue(added.failures().isEmpty(), "Bulk add failures: " + added.failures());
+            assertTrue(deleted.failures().isEmpty(), "Bulk delete failures: " + deleted.failures());
+        }
+    }
+}
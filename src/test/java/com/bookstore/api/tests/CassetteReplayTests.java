@@ -0,0 +1,71 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.cassette.CassetteFilter;
+import com.bookstore.api.cassette.CassetteMode;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.server.LocalBookStoreServer;
+import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.service.PagedCatalog;
+import com.bookstore.api.utils.Constants;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import static org.testng.Assert.*;
+
+// Records against its own local server, stops it and replays, so every replayed response provably comes from the
+// cassette.
+public class CassetteReplayTests {
+    private static final int PAGE_SIZE = 7;
+
+    private LocalBookStoreServer server;
+    private BookStoreService service;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() {
+        server = new LocalBookStoreServer(Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint(), 0);
+        server.start();
+        service = new BookStoreService(new ApiConfiguration(server.getBaseUrl(), Configuration.getBooksEndpoint(),
+                Configuration.getAuthorsEndpoint()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testReplayKeepsPagingAndETagHeaders() throws IOException {
+        String cassette = "CassetteReplayTests-" + UUID.randomUUID();
+        try {
+            Traffic recorded = CassetteFilter.using(cassette, CassetteMode.RECORD, this::traffic);
+            assertEquals(recorded.ids().size(), Constants.SEEDED_BOOK_COUNT, "Recorded paged traversal");
+            assertNotNull(recorded.etag(), "Recorded book should carry an ETag");
+
+            server.stop();
+            Traffic replayed = CassetteFilter.using(cassette, CassetteMode.REPLAY, this::traffic);
+            // Without X-Total-Count the first page would be taken for the whole list.
+            assertEquals(replayed.ids(), recorded.ids(), "Replayed paged traversal");
+            assertEquals(replayed.etag(), recorded.etag(), "Replayed ETag");
+        } finally {
+            Files.deleteIfExists(Path.of(Configuration.getCassetteDir(), cassette + ".cassette"));
+        }
+    }
+
+    private Traffic traffic() {
+        List<Integer> ids;
+        try (var books = new PagedCatalog(service, PAGE_SIZE, 2).books()) {
+            ids = books.map(Book::getId).toList();
+        }
+        return new Traffic(ids, service.getBookById(1).getHeader("ETag"));
+    }
+
+    private record Traffic(List<Integer> ids, String etag) {
+    }
+}
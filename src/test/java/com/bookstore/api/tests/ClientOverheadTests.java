@@ -0,0 +1,82 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.base.ApiBase;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.server.LocalBookStoreServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import static org.testng.Assert.assertEquals;
+
+public class ClientOverheadTests extends ApiBase {
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int MEASURED_REQUESTS = 2_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private LocalBookStoreServer server;
+    private ApiConfiguration config;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() {
+        server = new LocalBookStoreServer(Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint(), 0);
+        server.start();
+        config = new ApiConfiguration(server.getBaseUrl(), Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test(groups = {"perf"})
+    public void testPerRequestClientOverhead() {
+        String bookPath = config.getBooksEndpoint() + "/1";
+
+        // Pre-refactor shape: global filter + setup() filter + per-call filter, spec rebuilt every call. The global
+        // filter is added per request too, so no RestAssured static state leaks into tests running alongside.
+        Measurement legacy = measure("legacy", () -> RestAssured.given()
+                .filter(new AllureRestAssured())
+                .filter(new AllureRestAssured())
+                .baseUri(config.getBaseUrl())
+                .contentType("application/json")
+                .accept("application/json")
+                .filter(new AllureRestAssured())
+                .contentType("application/json"), bookPath);
+        Measurement shared = measure("shared-spec", () -> setup(config), bookPath);
+
+        String summary = legacy + "\n" + shared;
+        ApiLogger.log("⏱️ Per-request client overhead (local endpoint):\n" + summary);
+        Allure.addAttachment("Client overhead", "text/plain", summary);
+    }
+
+    private Measurement measure(String name, Supplier<RequestSpecification> spec, String path) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            assertEquals(spec.get().get(path).getStatusCode(), 200);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            spec.get().get(path);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(name, elapsed / MEASURED_REQUESTS, allocated / MEASURED_REQUESTS);
+    }
+
+    private record Measurement(String name, long nanosPerRequest, long bytesPerRequest) {
+        @Override
+        public String toString() {
+            return String.format("%-12s %8.1f µs/request %10d B/request", name, nanosPerRequest / 1000.0, bytesPerRequest);
+        }
+    }
+}
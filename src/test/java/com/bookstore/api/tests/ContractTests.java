@@ -0,0 +1,197 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.contract.Contract;
+import com.bookstore.api.contract.ContractFilter;
+import com.bookstore.api.contract.ContractResult;
+import com.bookstore.api.model.Book;
+import com.bookstore.api.server.LocalBookStoreServer;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.*;
+
+// Validator cases on hand-written bodies; the filter cases run against their own local server.
+public class ContractTests {
+    private static final int MAX_VIOLATIONS = 10;
+
+    private final Contract contract = Contract.of(Book.class);
+    private LocalBookStoreServer server;
+    private ApiConfiguration config;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() {
+        server = new LocalBookStoreServer(Configuration.getBooksEndpoint(), Configuration.getAuthorsEndpoint(), 0);
+        server.start();
+        config = new ApiConfiguration(server.getBaseUrl(), Configuration.getBooksEndpoint(),
+                Configuration.getAuthorsEndpoint());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testValidBookPasses() {
+        ContractResult result = validate(book(1));
+
+        assertTrue(result.isValid(), "Violations: " + result.violations());
+        assertEquals(result.elements(), 1, "A single object is one element");
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testNullReferenceFieldPasses() {
+        ContractResult result = validate(book(1).replace("\"excerpt\":\"Excerpt 1\"", "\"excerpt\":null"));
+
+        assertTrue(result.isValid(), "Violations: " + result.violations());
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testMissingFieldIsReported() {
+        ContractResult result = validate(book(1).replace(",\"publishDate\":\"2024-01-01T00:00:00\"", ""));
+
+        assertEquals(result.violations(), List.of("$.publishDate: missing"));
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testWrongTypeIsReported() {
+        ContractResult result = validate(book(1).replace("\"pageCount\":100", "\"pageCount\":\"100\""));
+
+        assertEquals(result.violations(), List.of("$.pageCount: expected INTEGER, got VALUE_STRING"));
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testNullPrimitiveIsReported() {
+        ContractResult result = validate(book(1).replace("\"id\":1", "\"id\":null"));
+
+        assertEquals(result.violations(), List.of("$.id: expected INTEGER, got VALUE_NULL"));
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testExtraFieldIsReported() {
+        ContractResult result = validate(book(1).replace("}", ",\"isbn\":{\"value\":\"978\"}}"));
+
+        assertEquals(result.violations(), List.of("$.isbn: unexpected field"));
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testMalformedBodyIsReported() {
+        ContractResult result = validate(book(1).substring(0, 20));
+
+        assertFalse(result.isValid(), "Truncated body should fail");
+        assertTrue(result.violations().get(0).startsWith("malformed JSON"), "Violations: " + result.violations());
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testLargeArrayReportsElementPaths() {
+        int count = 100_000;
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            String book = book(i);
+            if (i == 54_321) {
+                book = book.replace("\"title\":\"Book " + i + "\"", "\"title\":" + i);
+            }
+            body.append(i == 0 ? "" : ",").append(book);
+        }
+        body.append(']');
+
+        ContractResult result = validate(body.toString());
+
+        assertEquals(result.elements(), count, "Every element should be walked");
+        assertEquals(result.violations(), List.of("[54321].title: expected STRING or null, got VALUE_NUMBER_INT"));
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testViolationsAreCapped() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            body.append(i == 0 ? "" : ",").append("{}");
+        }
+        body.append(']');
+
+        ContractResult result = validate(body.toString());
+
+        assertEquals(result.elements(), 50, "Elements after the cap should still be walked");
+        assertEquals(result.violations().size(), MAX_VIOLATIONS, "Violations should stop at the cap");
+        assertEquals(result.violations().get(0), "[0].id: missing");
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testFilterPassesValidList() {
+        Response response = request(new ContractFilter(config, Set.of(booksEndpointKey()), 0))
+                .get(config.getBooksEndpoint());
+
+        assertEquals(response.getStatusCode(), 200, "Valid list should pass the contract");
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testFilterFailsRequestOnViolation() {
+        String corrupted = "[" + book(1).replace("\"pageCount\":100,", "") + "]";
+        RequestSpecification request = request(new ContractFilter(config, Set.of(booksEndpointKey()), 0))
+                .filter(new BodyReplacingFilter(corrupted));
+
+        AssertionError error = expectThrows(AssertionError.class, () -> request.get(config.getBooksEndpoint()));
+        assertTrue(error.getMessage().contains("violates the Book contract"), error.getMessage());
+        assertTrue(error.getMessage().contains("[0].pageCount: missing"), error.getMessage());
+    }
+
+    @Test(groups = {"regression", "books"})
+    public void testFilterSkipsEndpointsNotSelected() {
+        Response response = request(new ContractFilter(config, Set.of(), 0))
+                .filter(new BodyReplacingFilter("[{}]"))
+                .get(config.getBooksEndpoint());
+
+        assertEquals(response.getStatusCode(), 200, "Unselected endpoint should not be validated");
+    }
+
+    private RequestSpecification request(ContractFilter filter) {
+        return given().baseUri(config.getBaseUrl()).filter(filter);
+    }
+
+    private String booksEndpointKey() {
+        return "GET " + config.getBooksEndpoint();
+    }
+
+    private ContractResult validate(String body) {
+        return contract.validate(body.getBytes(StandardCharsets.UTF_8), MAX_VIOLATIONS);
+    }
+
+    private static String book(int id) {
+        return "{\"id\":" + id + ",\"title\":\"Book " + id + "\",\"pageCount\":100,\"description\":\"Description "
+                + id + "\",\"excerpt\":\"Excerpt " + id + "\",\"publishDate\":\"2024-01-01T00:00:00\"}";
+    }
+
+    // Closest to the network, so the contract filter sees the replaced body.
+    private static final class BodyReplacingFilter implements OrderedFilter {
+        private final String body;
+
+        BodyReplacingFilter(String body) {
+            this.body = body;
+        }
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            return new ResponseBuilder().clone(response).setBody(body).build();
+        }
+
+        @Override
+        public int getOrder() {
+            return LOWEST_PRECEDENCE;
+        }
+    }
+}
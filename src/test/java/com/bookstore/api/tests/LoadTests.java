@@ -0,0 +1,61 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.load.LoadProfile;
+import com.bookstore.api.load.LoadReport;
+import com.bookstore.api.load.OpenLoopLoadGenerator;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.service.IBookStoreService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.testng.SkipException;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.testng.Assert.assertTrue;
+
+public class LoadTests {
+    private final IBookStoreService service;
+
+    @Factory
+    public static Object[] createInstances() {
+        String baseUrl = Configuration.getBaseUrl();
+        String booksEndpoint = Configuration.getBooksEndpoint();
+        String authorsEndpoint = Configuration.getAuthorsEndpoint();
+        ApiConfiguration config = new ApiConfiguration(baseUrl, booksEndpoint, authorsEndpoint);
+        return new Object[]{new LoadTests(new BookStoreService(config))};
+    }
+
+    public LoadTests(IBookStoreService service) {
+        this.service = service;
+    }
+
+    @Test(groups = {"load"})
+    public void testOpenLoopLoad() throws IOException {
+        if (!Configuration.isLoadTargetExplicit()) {
+            throw new SkipException("Load runs against " + Configuration.getBaseUrl()
+                    + " need an explicit -Dapi.mode=remote");
+        }
+        LoadReport report = new OpenLoopLoadGenerator(service, LoadProfile.fromConfiguration()).run();
+        String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path reportFile = Path.of("reports", "load-report.json");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, json);
+        Allure.addAttachment("Load report", "application/json", json, ".json");
+
+        ApiLogger.log("📈 Load run finished: " + String.format("%.1f", report.achievedRatePerSecond())
+                + " req/s achieved of " + report.targetRatePerSecond() + " target, dropped=" + report.dropped());
+        report.operations().forEach((operation, stats) -> ApiLogger.log(String.format(
+                "   %-20s n=%d p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms errors=%d",
+                operation, stats.count(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(),
+                stats.errors() + stats.status5xx())));
+
+        assertTrue(report.total().count() > 0, "Load run should complete at least one request");
+        assertTrue(report.total().errorRatio() <= Configuration.getLoadMaxErrorRatio(),
+                "Error ratio " + report.total().errorRatio() + " exceeds " + Configuration.getLoadMaxErrorRatio());
+    }
+}
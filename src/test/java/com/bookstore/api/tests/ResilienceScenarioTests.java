@@ -0,0 +1,95 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.cassette.CassetteFilter;
+import com.bookstore.api.cassette.CassetteMode;
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.fault.FaultInjectingProxy;
+import com.bookstore.api.fault.FaultPlan;
+import com.bookstore.api.load.LoadProfile;
+import com.bookstore.api.load.LoadReport;
+import com.bookstore.api.load.OpenLoopLoadGenerator;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.service.BookStoreService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.testng.SkipException;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import static org.testng.Assert.assertTrue;
+
+public class ResilienceScenarioTests {
+    private final String scenario;
+    private final FaultPlan plan;
+
+    // One instance per configured fault scenario.
+    @Factory
+    public static Object[] createInstances() {
+        return Arrays.stream(Configuration.getResilienceScenarios().split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> new ResilienceScenarioTests(name,
+                        FaultPlan.parse(Configuration.getResilienceScenario(name))))
+                .toArray();
+    }
+
+    public ResilienceScenarioTests(String scenario, FaultPlan plan) {
+        this.scenario = scenario;
+        this.plan = plan;
+    }
+
+    @Test(groups = {"resilience"})
+    public void testThroughputAndTailLatencyUnderFaults() throws IOException {
+        // Faults are injected on the wire; replayed exchanges never reach the proxy.
+        if (CassetteFilter.mode() == CassetteMode.REPLAY) {
+            throw new SkipException("Resilience scenarios need live traffic, cassette mode is REPLAY");
+        }
+        if (!Configuration.isLoadTargetExplicit()) {
+            throw new SkipException("Resilience runs against " + Configuration.getBaseUrl()
+                    + " need an explicit -Dapi.mode=remote");
+        }
+        LoadProfile profile = new LoadProfile(
+                Configuration.getResilienceRate(),
+                Duration.ofSeconds(Configuration.getResilienceDurationSeconds()),
+                Duration.ofSeconds(Configuration.getResilienceWarmupSeconds()),
+                LoadProfile.parseMix(Configuration.getLoadMix()),
+                Configuration.getLoadMaxInFlight());
+        LoadReport report;
+        long injected;
+        try (FaultInjectingProxy proxy = new FaultInjectingProxy(Configuration.getBaseUrl(), plan).start()) {
+            ApiConfiguration config = new ApiConfiguration(proxy.getBaseUrl(), Configuration.getBooksEndpoint(),
+                    Configuration.getAuthorsEndpoint());
+            report = new OpenLoopLoadGenerator(new BookStoreService(config), profile).run();
+            injected = proxy.getInjectedFaults();
+            ApiLogger.log("🧨 Proxy [" + scenario + "]: " + proxy.summary());
+        }
+        String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path reportFile = Path.of("reports", "resilience-" + scenario + ".json");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, json);
+        Allure.addAttachment("Resilience report (" + scenario + ")", "application/json", json, ".json");
+
+        LoadReport.OperationStats total = report.total();
+        long failures = total.errors() + total.status5xx();
+        double minRate = profile.ratePerSecond() * Configuration.getResilienceMinThroughputRatio();
+        long maxP99 = Configuration.getResilienceMaxP99Millis(scenario);
+        ApiLogger.log(String.format("🧨 Scenario %s: %.1f req/s of %.0f target, p99=%.2fms p99.9=%.2fms, "
+                        + "failures=%d, injected faults=%d", scenario, report.achievedRatePerSecond(),
+                profile.ratePerSecond(), total.p99Ms(), total.p999Ms(), failures, injected));
+
+        assertTrue(total.count() > 0, "Scenario " + scenario + " should complete at least one request");
+        assertTrue(report.achievedRatePerSecond() >= minRate, String.format(
+                "Scenario %s: throughput %.1f req/s below %.1f", scenario, report.achievedRatePerSecond(), minRate));
+        assertTrue(total.p99Ms() <= maxP99, String.format(
+                "Scenario %s: p99 %.2fms above %dms", scenario, total.p99Ms(), maxP99));
+        // Injected faults may surface as failures; anything beyond them (plus the usual error budget) is the client's.
+        long allowed = injected + (long) Math.ceil(total.count() * Configuration.getLoadMaxErrorRatio());
+        assertTrue(failures <= allowed, "Scenario " + scenario + ": " + failures
+                + " failed requests, more than the " + injected + " injected faults allow");
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookstore.api.tests;
+
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.service.IBookStoreService;
+import com.bookstore.api.soak.SoakReport;
+import com.bookstore.api.soak.SoakRunner;
+import com.bookstore.api.utils.IdAllocator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.testng.SkipException;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SoakTests {
+    private final IBookStoreService service;
+
+    @Factory
+    public static Object[] createInstances() {
+        String baseUrl = Configuration.getBaseUrl();
+        String booksEndpoint = Configuration.getBooksEndpoint();
+        String authorsEndpoint = Configuration.getAuthorsEndpoint();
+        ApiConfiguration config = new ApiConfiguration(baseUrl, booksEndpoint, authorsEndpoint);
+        return new Object[]{new SoakTests(new BookStoreService(config))};
+    }
+
+    public SoakTests(IBookStoreService service) {
+        this.service = service;
+    }
+
+    @Test(groups = {"soak"})
+    public void testConcurrentCrudConsistency() throws IOException {
+        // Read-your-writes checks are meaningless against a backend that drops every write.
+        if (!Configuration.isLocalMode() && !Configuration.isSoakStatefulBackend()) {
+            throw new SkipException("Soak needs a backend that persists writes: use api.mode=local "
+                    + "or set soak.stateful.backend=true for " + Configuration.getBaseUrl());
+        }
+        int[] keys = IntStream.range(0, Configuration.getSoakKeyspace()).map(i -> IdAllocator.nextId()).toArray();
+        SoakReport report = new SoakRunner(service, Configuration.getSoakWorkers(), keys,
+                Duration.ofSeconds(Configuration.getSoakDurationSeconds()), Configuration.getDataSeed()).run();
+        String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path reportFile = Path.of("reports", "soak-report.json");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, json);
+        Allure.addAttachment("Soak report", "application/json", json, ".json");
+
+        ApiLogger.log(String.format("🧪 Soak finished: %d ops in %.1fs (%.0f ops/s), anomalies %s",
+                report.operations(), report.seconds(), report.throughputPerSecond(), report.anomalies()));
+        report.latency().forEach((operation, summary) ->
+                ApiLogger.log(String.format("   %-8s %s", operation, summary)));
+        report.examples().forEach(violation -> ApiLogger.log("   ⚠️ " + violation.anomaly() + " book "
+                + violation.key() + ": " + violation.detail()));
+
+        assertTrue(report.operations() > 0, "Soak run should complete at least one operation");
+        assertEquals(report.violations(), 0L, "Consistency anomalies: " + report.anomalies());
+    }
+}
@@ -0,0 +1,60 @@
+package com.bookstore.api.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+public class AllureReport {
+
+    // Suite listeners run outside any test case, so suite-level output goes into its own synthetic result.
+    public static void suiteAttachment(String suiteName, String name, String type, String content, String extension) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName(name)
+                .setFullName(suiteName + "." + name)
+                .setHistoryId(ResultsUtils.md5(suiteName + "." + name))
+                .setStatus(Status.PASSED)
+                .setLabels(List.of(ResultsUtils.createSuiteLabel(suiteName))));
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment(name, type, extension, content.getBytes(StandardCharsets.UTF_8));
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+
+    public record Check(String name, boolean passed, String details) {
+    }
+
+    // One synthetic result with a step per check; the result fails when any step does.
+    public static void suiteChecks(String suiteName, String name, List<Check> checks) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        boolean passed = checks.stream().allMatch(Check::passed);
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName(name)
+                .setFullName(suiteName + "." + name)
+                .setHistoryId(ResultsUtils.md5(suiteName + "." + name))
+                .setStatus(passed ? Status.PASSED : Status.FAILED)
+                .setLabels(List.of(ResultsUtils.createSuiteLabel(suiteName))));
+        lifecycle.startTestCase(uuid);
+        for (Check check : checks) {
+            String stepUuid = UUID.randomUUID().toString();
+            lifecycle.startStep(uuid, stepUuid, new StepResult()
+                    .setName(check.name())
+                    .setStatus(check.passed() ? Status.PASSED : Status.FAILED)
+                    .setStatusDetails(new StatusDetails().setMessage(check.details())));
+            lifecycle.stopStep(stepUuid);
+        }
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
@@ -1,62 +1,119 @@
 package com.bookstore.api.utils;
 
+import com.bookstore.api.base.HttpConnectionPool;
+import com.bookstore.api.cassette.CassetteFilter;
+import com.bookstore.api.cassette.CassetteMode;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.contract.ContractFilter;
 import com.bookstore.api.logger.ApiLogger;
-import org.apache.commons.io.output.TeeOutputStream;
+import com.bookstore.api.logger.AsyncLogWriter;
+import com.bookstore.api.logger.LogLevel;
+import com.bookstore.api.metrics.LatencyBaseline;
+import com.bookstore.api.metrics.LatencyRegistry;
+import com.bookstore.api.reporting.AttachmentWriter;
+import com.bookstore.api.reporting.CaptureFilter;
+import com.bookstore.api.service.CachingBookStoreService;
+import com.bookstore.api.service.CreatedEntityRegistry;
+import com.bookstore.api.service.HedgingPolicy;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
-import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
 
 public class ApiTestConfig implements ISuiteListener {
 
-    private PrintStream originalOut;
-    private FileOutputStream fileOut;
-    private TeeOutputStream teeStream;
-    private PrintStream teePrintStream;
-
     @Override
     public void onStart(ISuite suite) {
-        ApiLogger.log("🛠️ Starting API Test Suite setup...");
-        ApiLogger.log(" ");
+        ApiLogger.setLevel(LogLevel.valueOf(Configuration.getLogLevel().toUpperCase()));
         try {
-            File reportsDir = new File("reports");
-            if (!reportsDir.exists()) {
-                reportsDir.mkdirs();
-            }
-            String consoleLogPath = "reports/api-console.log";
-            fileOut = new FileOutputStream(consoleLogPath, true); // true za append
-            teeStream = new TeeOutputStream(System.out, fileOut);
-            teePrintStream = new PrintStream(teeStream, true, StandardCharsets.UTF_8);
-            originalOut = System.out;
-            System.setOut(teePrintStream);
-        } catch (IOException e) {
+            ApiLogger.start(new AsyncLogWriter(
+                    Path.of(Configuration.getLogFile()),
+                    System.out,
+                    Configuration.getLogQueueCapacity(),
+                    AsyncLogWriter.OverflowPolicy.valueOf(Configuration.getLogOverflowPolicy().toUpperCase()),
+                    Configuration.getLogBatchSize(),
+                    Configuration.getLogMaxFileBytes(),
+                    Configuration.getLogMaxArchives()));
+        } catch (UncheckedIOException e) {
             ApiLogger.log("Error setting up log: " + e.getMessage());
         }
+        ApiLogger.log("🛠️ Starting API Test Suite setup...");
+        ApiLogger.log(" ");
+        LatencyRegistry.resetSuite();
+        CachingBookStoreService.resetStats();
+        HedgingPolicy.resetStats();
+        // The local server listens on a random port, so local runs share one scope.
+        String target = Configuration.isLocalMode() ? "local" : Configuration.getBaseUrl();
+        LatencyBaseline.shared().beginRun(target + " " + suite.getName());
     }
 
     @Override
     public void onFinish(ISuite suite) {
         ApiLogger.log("✅ Test suite finished.");
-        if (teePrintStream != null) {
-            teePrintStream.flush();
-        }
-        if (fileOut != null) {
-            try {
-                fileOut.flush();
-                fileOut.close();
-            } catch (IOException e) {
-                ApiLogger.log("Error closing log file: " + e.getMessage());
+        TestDurationHistory.shared().save();
+        // Replayed creates never reached a server, so there is nothing to tear down.
+        if (Configuration.isCleanupEnabled() && CassetteFilter.mode() != CassetteMode.REPLAY
+                && CreatedEntityRegistry.size() > 0) {
+            EntityCleanup.Report cleanup = EntityCleanup.deleteLeftovers();
+            EntityCleanup.logReport(cleanup);
+            AllureReport.suiteAttachment(suite.getName(), "Created-entity teardown", "text/plain", cleanup.toString(), ".txt");
+        }
+        if (!LatencyRegistry.suite().isEmpty()) {
+            String latencies = LatencyRegistry.format(LatencyRegistry.suite());
+            ApiLogger.log("⏱️ Suite latency per endpoint:\n" + latencies);
+            AllureReport.suiteAttachment(suite.getName(), "Suite latency histograms", "text/plain", latencies, ".txt");
+            // Replayed latencies say nothing about the server, so they are neither compared nor stored.
+            if (Configuration.isLatencyBaselineEnabled() && CassetteFilter.mode() != CassetteMode.REPLAY) {
+                compareWithBaseline(suite);
             }
         }
-        if (teeStream != null) {
-            try {
-                teeStream.close();
-            } catch (IOException e) {
-                ApiLogger.log("Error closing tee stream: " + e.getMessage());
+        if (Configuration.isCacheEnabled()) {
+            ApiLogger.log("🗃️ Response cache: " + CachingBookStoreService.summary());
+        }
+        if (Configuration.isHedgeEnabled()) {
+            String hedging = HedgingPolicy.summary();
+            ApiLogger.log("🪁 Hedged GETs: " + hedging);
+            AllureReport.suiteAttachment(suite.getName(), "Hedged GETs", "text/plain", hedging, ".txt");
+        }
+        if (CassetteFilter.mode() != CassetteMode.OFF) {
+            CassetteFilter.flush();
+            ApiLogger.log("📼 Cassettes: " + CassetteFilter.summary());
+            if (!CassetteFilter.unmatched().isEmpty()) {
+                String misses = String.join("\n", CassetteFilter.unmatched());
+                ApiLogger.log("❌ Requests without a recorded response:\n" + misses);
+                AllureReport.suiteAttachment(suite.getName(), "Unmatched cassette requests", "text/plain", misses, ".txt");
             }
         }
-        if (originalOut != null) {
-            System.setOut(originalOut);
+        if (ContractFilter.hasValidations()) {
+            String contracts = ContractFilter.summary();
+            ApiLogger.log("📐 Contract validation:\n" + contracts);
+            AllureReport.suiteAttachment(suite.getName(), "Contract validation cost", "text/plain", contracts, ".txt");
+        }
+        ApiLogger.log("🔌 HTTP connection pool: " + HttpConnectionPool.shared().summary());
+        AttachmentWriter.flush();
+        ApiLogger.log("📎 Allure capture: " + CaptureFilter.summary());
+        ApiLogger.stop();
+    }
+
+    private static void compareWithBaseline(ISuite suite) {
+        LatencyBaseline baseline = LatencyBaseline.shared();
+        List<LatencyBaseline.Comparison> comparisons = baseline.compare(LatencyRegistry.suite());
+        baseline.finishRun(LatencyRegistry.suite());
+        if (comparisons.isEmpty()) {
+            ApiLogger.log("📈 Latency baseline: nothing to compare yet (" + baseline.size() + " run(s) stored)");
+            return;
         }
+        List<LatencyBaseline.Comparison> regressions = comparisons.stream()
+                .filter(LatencyBaseline.Comparison::regressed)
+                .toList();
+        ApiLogger.log(String.format("📈 Latency baseline: %d series compared, %d regressed", comparisons.size(),
+                regressions.size()));
+        regressions.forEach(regression ->
+                ApiLogger.log("🐢 Latency regression in " + regression.series() + ": " + regression.describe()));
+        AllureReport.suiteChecks(suite.getName(), "Latency vs. baseline", comparisons.stream()
+                .map(comparison -> new AllureReport.Check(comparison.series(), !comparison.regressed(),
+                        comparison.describe()))
+                .toList());
     }
-}
\ No newline at end of file
+}
@@ -5,4 +5,5 @@ public class Constants {
     public static final int VALID_AUTHOR_ID = 1;
     public static final int NON_EXISTENT_ID = 999899999;
     public static final int INVALID_ID = -5;
+    public static final int SEEDED_BOOK_COUNT = 200;
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Orders tests longest-expected-first so the slow ones start while every thread is still busy, and in
+// budget mode keeps only the highest value-per-second tests that fit into budget x threads.
+public class DurationAwareInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!Configuration.isScheduleLongestFirst() && Configuration.getScheduleBudgetSeconds() <= 0) {
+            return methods;
+        }
+        TestDurationHistory history = TestDurationHistory.shared();
+        double unknownMillis = unknownEstimate(methods, history);
+        Map<IMethodInstance, Double> expected = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            expected.put(method, history.expectedMillis(key(method.getMethod())).orElse(unknownMillis));
+        }
+
+        List<IMethodInstance> scheduled = new ArrayList<>(methods);
+        if (Configuration.getScheduleBudgetSeconds() > 0) {
+            scheduled = fitBudget(scheduled, expected, context);
+        }
+        if (Configuration.isScheduleLongestFirst()) {
+            scheduled.sort(Comparator.comparingDouble((IMethodInstance method) -> expected.get(method)).reversed());
+        }
+        ApiLogger.debug("📋 Scheduled order: " + scheduled.stream()
+                .map(method -> method.getMethod().getMethodName() + String.format("(%.0fms)", expected.get(method)))
+                .collect(Collectors.joining(", ")));
+        return scheduled;
+    }
+
+    private List<IMethodInstance> fitBudget(List<IMethodInstance> methods, Map<IMethodInstance, Double> expected,
+                                            ITestContext context) {
+        Map<String, Integer> values = parseGroupValues(Configuration.getScheduleGroupValues());
+        int threads = Math.max(1, context.getSuite().getXmlSuite().getParallel().isParallel()
+                ? context.getSuite().getXmlSuite().getThreadCount() : 1);
+        double capacityMillis = Configuration.getScheduleBudgetSeconds() * 1000.0 * threads;
+
+        // Greedy knapsack on value density; cheap and close to optimal when items are small against the budget.
+        List<IMethodInstance> byDensity = new ArrayList<>(methods);
+        byDensity.sort(Comparator.comparingDouble(
+                (IMethodInstance method) -> value(method.getMethod(), values) / Math.max(1.0, expected.get(method)))
+                .reversed());
+        List<IMethodInstance> selected = new ArrayList<>();
+        double used = 0;
+        for (IMethodInstance method : byDensity) {
+            double cost = expected.get(method);
+            if (used + cost <= capacityMillis) {
+                selected.add(method);
+                used += cost;
+            }
+        }
+        ApiLogger.log(String.format("⏳ Time budget %ds x %d thread(s): running %d of %d tests (~%.1fs of work)",
+                Configuration.getScheduleBudgetSeconds(), threads, selected.size(), methods.size(), used / 1000.0));
+        return selected;
+    }
+
+    private static int value(ITestNGMethod method, Map<String, Integer> values) {
+        return Arrays.stream(method.getGroups()).mapToInt(group -> values.getOrDefault(group, 1)).max().orElse(1);
+    }
+
+    // Tests without history are assumed to take the median of the known ones (or the configured default).
+    private static double unknownEstimate(List<IMethodInstance> methods, TestDurationHistory history) {
+        double[] known = methods.stream()
+                .map(method -> history.expectedMillis(key(method.getMethod())))
+                .filter(estimate -> estimate.isPresent())
+                .mapToDouble(estimate -> estimate.getAsDouble())
+                .sorted()
+                .toArray();
+        return known.length == 0 ? Configuration.getScheduleUnknownMillis() : known[known.length / 2];
+    }
+
+    private static String key(ITestNGMethod method) {
+        return TestDurationHistory.key(method.getRealClass(), method.getMethodName());
+    }
+
+    // Format: smoke:5,regression:2 (groups not listed are worth 1)
+    static Map<String, Integer> parseGroupValues(String groupValues) {
+        Map<String, Integer> values = new HashMap<>();
+        if (groupValues == null || groupValues.isBlank()) {
+            return values;
+        }
+        for (String entry : groupValues.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid group value entry: " + entry);
+            }
+            values.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.ApiConfiguration;
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.service.AsyncBookStoreService;
+import com.bookstore.api.service.BookStoreService;
+import com.bookstore.api.service.CreatedEntityRegistry;
+import com.bookstore.api.service.CreatedEntityRegistry.CreatedEntity;
+import com.bookstore.api.service.CreatedEntityRegistry.EntityType;
+import com.bookstore.api.service.Futures;
+import com.bookstore.api.service.IAsyncBookStoreService;
+import io.restassured.response.Response;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public class EntityCleanup {
+
+    public record Report(int leakedBooks, int leakedAuthors, int deleted, int failed, long millis) {
+        @Override
+        public String toString() {
+            return String.format("leaked books=%d authors=%d | deleted=%d failed=%d in %d ms",
+                    leakedBooks, leakedAuthors, deleted, failed, millis);
+        }
+    }
+
+    // Authors first, then books; each batch fans out with bounded parallelism and completes before the next.
+    public static Report deleteLeftovers() {
+        long start = System.nanoTime();
+        List<CreatedEntity> leftovers = CreatedEntityRegistry.snapshot();
+        int leakedBooks = (int) leftovers.stream().filter(entity -> entity.type() == EntityType.BOOK).count();
+        int leakedAuthors = leftovers.size() - leakedBooks;
+        int deleted = 0;
+        int failed = 0;
+
+        Map<ApiConfiguration, List<CreatedEntity>> byConfig = leftovers.stream()
+                .collect(Collectors.groupingBy(CreatedEntity::config));
+        for (Map.Entry<ApiConfiguration, List<CreatedEntity>> entry : byConfig.entrySet()) {
+            try (IAsyncBookStoreService service = new AsyncBookStoreService(new BookStoreService(entry.getKey()),
+                    Configuration.getCleanupParallelism())) {
+                for (EntityType type : List.of(EntityType.AUTHOR, EntityType.BOOK)) {
+                    List<CreatedEntity> entities = entry.getValue().stream()
+                            .filter(entity -> entity.type() == type)
+                            .toList();
+                    int batchSize = Configuration.getCleanupBatchSize();
+                    for (int from = 0; from < entities.size(); from += batchSize) {
+                        List<CreatedEntity> batch = entities.subList(from, Math.min(entities.size(), from + batchSize));
+                        List<Response> responses = Futures.fanOut(batch, entity -> delete(service, entity)
+                                .exceptionally(error -> null)).join();
+                        for (Response response : responses) {
+                            if (response != null && (response.getStatusCode() / 100 == 2 || response.getStatusCode() == 404)) {
+                                deleted++;
+                            } else {
+                                failed++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return new Report(leakedBooks, leakedAuthors, deleted, failed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static CompletableFuture<Response> delete(IAsyncBookStoreService service, CreatedEntity entity) {
+        return entity.type() == EntityType.BOOK ? service.deleteBook(entity.id()) : service.deleteAuthor(entity.id());
+    }
+
+    public static void logReport(Report report) {
+        ApiLogger.log("🧹 Created-entity teardown: " + report);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.Configuration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IdAllocator {
+    private static final int MIN_BASE = 100_000;
+    private static final int RANGE = 1_000_000;
+    private static final int TEST_BLOCK = 1_000;
+    private static final AtomicInteger next = new AtomicInteger(initialBase());
+    private static final InheritableThreadLocal<AtomicInteger> testBlock = new InheritableThreadLocal<>();
+
+    public static int nextId() {
+        AtomicInteger counter = testBlock.get() != null ? testBlock.get() : next;
+        int id = counter.getAndIncrement();
+        if (id == Constants.NON_EXISTENT_ID) {
+            id = counter.getAndIncrement();
+        }
+        if (id <= 0) {
+            throw new IllegalStateException("Created entity ID range exhausted");
+        }
+        return id;
+    }
+
+    // Record/replay: a test always gets the same ids, whatever the run order or parallelism.
+    public static void beginTest(String testKey) {
+        int blocks = (Constants.NON_EXISTENT_ID - MIN_BASE) / TEST_BLOCK;
+        testBlock.set(new AtomicInteger(MIN_BASE + Math.floorMod(testKey.hashCode(), blocks) * TEST_BLOCK));
+    }
+
+    public static void endTest() {
+        testBlock.remove();
+    }
+
+    private static int initialBase() {
+        long configured = Configuration.getIdBase();
+        if (configured > 0) {
+            return Math.toIntExact(configured);
+        }
+        // Random block per run so concurrent runs against a shared environment don't collide either.
+        int blocks = (Constants.NON_EXISTENT_ID - MIN_BASE) / RANGE;
+        return MIN_BASE + ThreadLocalRandom.current().nextInt(blocks) * RANGE;
+    }
+}
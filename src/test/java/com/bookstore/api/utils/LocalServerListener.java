@@ -0,0 +1,23 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.server.LocalBookStoreServer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+public class LocalServerListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (Configuration.isLocalMode()) {
+            LocalBookStoreServer.shared();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (Configuration.isLocalMode()) {
+            LocalBookStoreServer.stopShared();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import java.util.List;
+
+public class ParallelSuiteConfigurer implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(Configuration.getParallelMode());
+        if (mode == XmlSuite.ParallelMode.NONE) {
+            return;
+        }
+        int threads = Configuration.getThreadCount();
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(threads);
+            ApiLogger.log("🧵 Running suite '" + suite.getName() + "' in parallel: " + mode + " x " + threads);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+
+// Per-thread data for test methods. Virtual-thread workers take an explicit TestDataGenerator split instead.
+public class TestDataFactory {
+    private static final ThreadLocal<TestDataGenerator> generator =
+            ThreadLocal.withInitial(TestDataGenerator::forCurrentThread);
+
+    public static Book newBook(int id) {
+        return generator.get().nextBook(id);
+    }
+
+    public static Author newAuthor(int id, int idBook) {
+        return generator.get().nextAuthor(id, idBook);
+    }
+
+    public static String bookTitle() {
+        return generator.get().nextTitle();
+    }
+
+    public static String lastName() {
+        return generator.get().nextLastName();
+    }
+
+    // Record/replay: reseeds this thread's generator from the test key so request bodies repeat across runs.
+    public static void beginTest(String testKey) {
+        generator.set(TestDataGenerator.forTest(testKey));
+    }
+
+    public static void endTest() {
+        generator.remove();
+    }
+}
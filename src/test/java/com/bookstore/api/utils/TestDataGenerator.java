@@ -0,0 +1,278 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.model.Author;
+import com.bookstore.api.model.Book;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Seeded Book/Author generator. Vocabulary is encoded once; each instance owns its SplittableRandom, so one
+// generator per thread needs no locking and replays the same data for the same seed. Worker pools split one
+// generator per task or worker from a single thread (see split), so their data does not depend on scheduling.
+public final class TestDataGenerator {
+
+    private static final String PUBLISH_DATE = "2025-07-30T00:00:00";
+
+    private static final String[] TITLE_WORDS = {
+            "Silent", "River", "Shadow", "Garden", "Winter", "Empire", "Glass", "Ocean", "Broken", "Crown",
+            "Hidden", "Light", "Iron", "Dream", "Last", "Summer", "Stone", "Fire", "Golden", "Night",
+            "Lost", "City", "Distant", "Star", "Wild", "Heart", "Quiet", "Storm", "Secret", "Road",
+            "Northern", "Sky", "Paper", "House", "Burning", "Sea", "Falling", "Moon", "Ancient", "Forest",
+            "Crimson", "Tide", "Hollow", "Bridge", "Endless", "Song", "Pale", "Horizon", "Black", "Orchard",
+            "Little", "Kingdom", "Cold", "Harbor", "Long", "Journey", "Bright", "Island", "Dark", "Mirror",
+            "Vanishing", "Season", "Silver", "Tower"
+    };
+
+    private static final String[] LOREM_WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim",
+            "ad", "minim", "veniam", "quis", "nostrud", "exercitation", "ullamco", "laboris", "nisi", "aliquip",
+            "ex", "ea", "commodo", "consequat", "duis", "aute", "irure", "in", "reprehenderit", "voluptate",
+            "velit", "esse", "cillum", "fugiat", "nulla", "pariatur", "excepteur", "sint", "occaecat", "cupidatat",
+            "non", "proident", "sunt", "culpa", "qui", "officia", "deserunt", "mollit", "anim", "id",
+            "est", "laborum", "vitae", "porta"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Ada", "Alan", "Grace", "Linus", "Margaret", "Dennis", "Barbara", "Ken", "Frances", "Edsger",
+            "Radia", "Donald", "Katherine", "Tim", "Hedy", "John", "Mary", "Niklaus", "Sophie", "Bjarne",
+            "Annie", "James", "Evelyn", "Guido", "Jean", "Brian", "Karen", "Leslie", "Joan", "Robert",
+            "Shafi", "Butler"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Lovelace", "Turing", "Hopper", "Torvalds", "Hamilton", "Ritchie", "Liskov", "Thompson", "Allen",
+            "Dijkstra", "Perlman", "Knuth", "Johnson", "Berners-Lee", "Lamarr", "McCarthy", "Keller", "Wirth",
+            "Wilson", "Stroustrup", "Easley", "Gosling", "Boyd", "Rossum", "Sammet", "Kernighan", "Jones",
+            "Lamport", "Clarke", "Tarjan", "Goldwasser", "Lampson"
+    };
+
+    private static final Vocabulary TITLES = new Vocabulary(TITLE_WORDS);
+    private static final Vocabulary LOREM = new Vocabulary(LOREM_WORDS);
+    private static final Vocabulary FIRST = new Vocabulary(FIRST_NAMES);
+    private static final Vocabulary LAST = new Vocabulary(LAST_NAMES);
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] TITLE = ascii(",\"title\":\"");
+    private static final byte[] PAGE_COUNT = ascii("\",\"pageCount\":");
+    private static final byte[] DESCRIPTION = ascii(",\"description\":\"");
+    private static final byte[] EXCERPT = ascii("\",\"excerpt\":\"");
+    private static final byte[] PUBLISHED = ascii("\",\"publishDate\":\"" + PUBLISH_DATE + "\"}");
+    private static final byte[] ID_BOOK = ascii(",\"idBook\":");
+    private static final byte[] FIRST_NAME = ascii(",\"firstName\":\"");
+    private static final byte[] LAST_NAME = ascii("\",\"lastName\":\"");
+    private static final byte[] END_STRING = ascii("\"}");
+
+    private static SplittableRandom root;
+
+    private final SplittableRandom random;
+    private final FieldSizes sizes;
+    private final StringBuilder text = new StringBuilder(256);
+    private byte[] buffer = new byte[512];
+    private int length;
+
+    public TestDataGenerator(long seed, FieldSizes sizes) {
+        this(new SplittableRandom(seed), sizes);
+    }
+
+    private TestDataGenerator(SplittableRandom random, FieldSizes sizes) {
+        this.random = random;
+        this.sizes = sizes;
+    }
+
+    // TestNG threads get generators split off one seeded root, in the order they first ask for one.
+    public static synchronized TestDataGenerator forCurrentThread() {
+        if (root == null) {
+            root = new SplittableRandom(Configuration.getDataSeed());
+        }
+        return new TestDataGenerator(root.split(), FieldSizes.fromConfiguration());
+    }
+
+    public static TestDataGenerator seeded() {
+        return new TestDataGenerator(Configuration.getDataSeed(), FieldSizes.fromConfiguration());
+    }
+
+    public static TestDataGenerator forTest(String testKey) {
+        return new TestDataGenerator(Configuration.getDataSeed() * 31 + testKey.hashCode(),
+                FieldSizes.fromConfiguration());
+    }
+
+    public TestDataGenerator split() {
+        return new TestDataGenerator(random.split(), sizes);
+    }
+
+    public Book nextBook(int id) {
+        return new Book(id, words(TITLES, sizes.titleWords()), pageCount(),
+                words(LOREM, sizes.descriptionWords()), words(LOREM, sizes.excerptWords()), PUBLISH_DATE);
+    }
+
+    public Author nextAuthor(int id, int idBook) {
+        return new Author(id, idBook, FIRST.pick(random), LAST.pick(random));
+    }
+
+    public String nextTitle() {
+        return words(TITLES, sizes.titleWords());
+    }
+
+    public String nextLastName() {
+        return LAST.pick(random);
+    }
+
+    // Same fields and order as Jackson's serialization of Book, written straight from the encoded vocabulary.
+    public byte[] nextBookJson(int id) {
+        length = 0;
+        append(ID);
+        appendInt(id);
+        append(TITLE);
+        appendWords(TITLES, sizes.titleWords());
+        append(PAGE_COUNT);
+        appendInt(pageCount());
+        append(DESCRIPTION);
+        appendWords(LOREM, sizes.descriptionWords());
+        append(EXCERPT);
+        appendWords(LOREM, sizes.excerptWords());
+        append(PUBLISHED);
+        return Arrays.copyOf(buffer, length);
+    }
+
+    public byte[] nextAuthorJson(int id, int idBook) {
+        length = 0;
+        append(ID);
+        appendInt(id);
+        append(ID_BOOK);
+        appendInt(idBook);
+        append(FIRST_NAME);
+        append(FIRST.encoded[random.nextInt(FIRST.size())]);
+        append(LAST_NAME);
+        append(LAST.encoded[random.nextInt(LAST.size())]);
+        append(END_STRING);
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private int pageCount() {
+        return random.nextInt(100, 500);
+    }
+
+    private String words(Vocabulary vocabulary, Range range) {
+        text.setLength(0);
+        int count = range.pick(random);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary.pick(random));
+        }
+        return text.toString();
+    }
+
+    private void appendWords(Vocabulary vocabulary, Range range) {
+        int count = range.pick(random);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                ensure(1);
+                buffer[length++] = ' ';
+            }
+            append(vocabulary.encoded[random.nextInt(vocabulary.size())]);
+        }
+    }
+
+    private void appendInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            append(ascii(Integer.toString(value)));
+            return;
+        }
+        ensure(11);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int end = length + digits(value);
+        for (int i = end - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length = end;
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void append(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public record Range(int min, int max) {
+
+        public Range {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid range: " + min + "-" + max);
+            }
+        }
+
+        // Format: 2-6 or a single fixed value
+        public static Range parse(String value) {
+            String[] parts = value.trim().split("-");
+            int min = Integer.parseInt(parts[0].trim());
+            return new Range(min, parts.length > 1 ? Integer.parseInt(parts[1].trim()) : min);
+        }
+
+        int pick(SplittableRandom random) {
+            return min == max ? min : random.nextInt(min, max + 1);
+        }
+    }
+
+    // Field sizes in words.
+    public record FieldSizes(Range titleWords, Range descriptionWords, Range excerptWords) {
+
+        public static FieldSizes fromConfiguration() {
+            return new FieldSizes(
+                    Range.parse(Configuration.getDataTitleWords()),
+                    Range.parse(Configuration.getDataDescriptionWords()),
+                    Range.parse(Configuration.getDataExcerptWords()));
+        }
+    }
+
+    // JSON needs no escaping for these words, so the encoded form is the UTF-8 bytes as-is.
+    private static final class Vocabulary {
+        private final String[] words;
+        private final byte[][] encoded;
+
+        Vocabulary(String[] words) {
+            this.words = words;
+            this.encoded = new byte[words.length][];
+            for (int i = 0; i < words.length; i++) {
+                if (!words[i].matches("[A-Za-z -]+")) {
+                    throw new IllegalStateException("Vocabulary word needs JSON escaping: " + words[i]);
+                }
+                encoded[i] = ascii(words[i]);
+            }
+        }
+
+        int size() {
+            return words.length;
+        }
+
+        String pick(SplittableRandom random) {
+            return words[random.nextInt(words.length)];
+        }
+    }
+}
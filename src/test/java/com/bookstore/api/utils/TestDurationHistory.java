@@ -0,0 +1,103 @@
+package com.bookstore.api.utils;
+
+import com.bookstore.api.config.Configuration;
+import com.bookstore.api.logger.ApiLogger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-test duration estimates carried across runs as an exponentially weighted moving average.
+// File layout: magic, version, count, then (UTF key, float ewma millis, int runs) per test.
+public class TestDurationHistory {
+
+    private static final int MAGIC = 0x54445548;
+    private static final int VERSION = 1;
+    private static final double ALPHA = 0.3;
+    private static TestDurationHistory shared;
+
+    private final Path file;
+    private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    public record Estimate(double millis, int runs) {
+    }
+
+    public TestDurationHistory(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public static synchronized TestDurationHistory shared() {
+        if (shared == null) {
+            shared = new TestDurationHistory(Path.of(Configuration.getScheduleHistoryFile()));
+        }
+        return shared;
+    }
+
+    public static String key(Class<?> testClass, String methodName) {
+        return testClass.getName() + "#" + methodName;
+    }
+
+    public void record(String key, long millis) {
+        estimates.merge(key, new Estimate(millis, 1), (previous, sample) -> new Estimate(
+                previous.millis() + ALPHA * (sample.millis() - previous.millis()), previous.runs() + 1));
+    }
+
+    public OptionalDouble expectedMillis(String key) {
+        Estimate estimate = estimates.get(key);
+        return estimate == null ? OptionalDouble.empty() : OptionalDouble.of(estimate.millis());
+    }
+
+    public int size() {
+        return estimates.size();
+    }
+
+    // Written to a sibling temp file and moved into place so an interrupted run never leaves a torn history.
+    public synchronized void save() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                Map<String, Estimate> snapshot = Map.copyOf(estimates);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Estimate> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeFloat((float) entry.getValue().millis());
+                    out.writeInt(entry.getValue().runs());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            ApiLogger.log("⚠️ Could not save test duration history: " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                ApiLogger.log("⚠️ Ignoring test duration history with unknown format: " + file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                estimates.put(in.readUTF(), new Estimate(in.readFloat(), in.readInt()));
+            }
+        } catch (NoSuchFileException e) {
+            // First run: everything is unknown.
+        } catch (IOException e) {
+            estimates.clear();
+            ApiLogger.log("⚠️ Could not read test duration history: " + e.getMessage());
+        }
+    }
+}
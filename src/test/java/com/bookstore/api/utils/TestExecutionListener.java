@@ -1,10 +1,24 @@
 package com.bookstore.api.utils;
 
+import com.bookstore.api.cassette.CassetteFilter;
+import com.bookstore.api.cassette.CassetteMode;
+import com.bookstore.api.config.Configuration;
 import com.bookstore.api.logger.ApiLogger;
+import com.bookstore.api.metrics.LatencyBaseline;
+import com.bookstore.api.metrics.LatencyBudgets;
+import com.bookstore.api.metrics.LatencyHistogram;
+import com.bookstore.api.metrics.LatencyRegistry;
+import com.bookstore.api.reporting.CaptureFilter;
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestResult;
 import org.testng.TestListenerAdapter;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 
-public class TestExecutionListener extends TestListenerAdapter {
+public class TestExecutionListener extends TestListenerAdapter implements IInvokedMethodListener {
 
     @Override
     public void onTestStart(ITestResult result) {
@@ -14,13 +28,65 @@ public class TestExecutionListener extends TestListenerAdapter {
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        recordDuration(result);
         TestUtils.finishTest(result);
         ApiLogger.log("-------------");
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        recordDuration(result);
         TestUtils.handleTestFailure(result); // Uklanjamo Assert.fail, samo logiramo
         ApiLogger.log("-------------");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            LatencyRegistry.beginTest();
+            CaptureFilter.beginTest();
+            if (CassetteFilter.mode() != CassetteMode.OFF) {
+                Method testMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+                String testKey = TestDurationHistory.key(testMethod.getDeclaringClass(), testMethod.getName());
+                CassetteFilter.beginTest(testMethod);
+                IdAllocator.beginTest(testKey);
+                TestDataFactory.beginTest(testKey);
+            }
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Map<String, LatencyHistogram> histograms = LatencyRegistry.endTest();
+        if (!histograms.isEmpty()) {
+            if (Configuration.isLatencyBaselineEnabled()) {
+                Method testMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+                LatencyBaseline.shared().recordTest(
+                        TestDurationHistory.key(testMethod.getDeclaringClass(), testMethod.getName()), histograms);
+            }
+            Allure.addAttachment("Latency histograms", "text/plain", LatencyRegistry.format(histograms), ".txt");
+        }
+        // Runs before the result listeners, so a blown budget is reported as an ordinary failure.
+        List<String> violations = LatencyBudgets.violations(
+                method.getTestMethod().getConstructorOrMethod().getMethod(), histograms);
+        if (testResult.getStatus() == ITestResult.SUCCESS && !violations.isEmpty()) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(String.join("; ", violations)));
+        }
+        CaptureFilter.endTest(testResult.getStatus() == ITestResult.FAILURE);
+        if (CassetteFilter.mode() != CassetteMode.OFF) {
+            CassetteFilter.endTest();
+            IdAllocator.endTest();
+            TestDataFactory.endTest();
+        }
+    }
+
+    private static void recordDuration(ITestResult result) {
+        TestDurationHistory.shared().record(
+                TestDurationHistory.key(result.getMethod().getRealClass(), result.getMethod().getMethodName()),
+                result.getEndMillis() - result.getStartMillis());
+    }
+}
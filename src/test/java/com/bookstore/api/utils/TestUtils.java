@@ -2,6 +2,10 @@ package com.bookstore.api.utils;
 
 import com.bookstore.api.logger.ApiLogger;
 import org.testng.ITestResult;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import static org.testng.Assert.assertTrue;
 
 public class TestUtils {
 
@@ -15,4 +19,33 @@ public class TestUtils {
         ApiLogger.log("✅ Test passed: " + testMethodName);
     }
 
-}
\ No newline at end of file
+    // One pass, keeps only the previous element: works on streams of any size.
+    public static <T> long assertSorted(Stream<T> stream, Comparator<? super T> order, String message) {
+        return assertOrdered(stream, order, false, message);
+    }
+
+    // Strictly ascending, so it also proves no element appears twice.
+    public static <T> long assertStrictlySorted(Stream<T> stream, Comparator<? super T> order, String message) {
+        return assertOrdered(stream, order, true, message);
+    }
+
+    private static <T> long assertOrdered(Stream<T> stream, Comparator<? super T> order, boolean strict,
+                                          String message) {
+        try (stream) {
+            Iterator<T> iterator = stream.iterator();
+            if (!iterator.hasNext()) {
+                return 0;
+            }
+            T previous = iterator.next();
+            long count = 1;
+            while (iterator.hasNext()) {
+                T current = iterator.next();
+                int comparison = order.compare(previous, current);
+                assertTrue(strict ? comparison < 0 : comparison <= 0, message + " (at element " + count + ")");
+                previous = current;
+                count++;
+            }
+            return count;
+        }
+    }
+}